@@ -0,0 +1,10 @@
+package com.supersection.bookstore.orders.clients.catalog;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class StubCatalogReplica extends CatalogReplica {
+
+    public StubCatalogReplica(ProductServiceClient client) {
+        super(client, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,25 @@
+package com.supersection.bookstore.orders.clients.catalog;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class StubProductServiceClient extends ProductServiceClient {
+
+    private final Map<String, Product> products;
+
+    public StubProductServiceClient(Map<String, Product> products) {
+        super(null, null);
+        this.products = products;
+    }
+
+    @Override
+    public Optional<Product> getProductByCode(String code) {
+        return Optional.ofNullable(products.get(code));
+    }
+
+    @Override
+    public ProductChanges getProductChanges(long since) {
+        return new ProductChanges(since == 0 ? List.copyOf(products.values()) : List.of(), 1, false);
+    }
+}
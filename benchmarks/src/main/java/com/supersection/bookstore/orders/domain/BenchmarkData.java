@@ -0,0 +1,62 @@
+package com.supersection.bookstore.orders.domain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.supersection.bookstore.orders.ApplicationProperties;
+import com.supersection.bookstore.orders.clients.catalog.Product;
+import com.supersection.bookstore.orders.domain.dtos.CreateOrderRequest;
+import com.supersection.bookstore.orders.domain.models.Address;
+import com.supersection.bookstore.orders.domain.models.Customer;
+import com.supersection.bookstore.orders.domain.models.EventPayloadFormat;
+import com.supersection.bookstore.orders.domain.models.OrderItem;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class BenchmarkData {
+
+    static CreateOrderRequest createOrderRequest(int itemCount) {
+        Set<OrderItem> items = IntStream.range(0, itemCount)
+                .mapToObj(i -> new OrderItem("P" + i, "Product " + i, new BigDecimal("25.50"), 1 + i % 3))
+                .collect(Collectors.toSet());
+        return new CreateOrderRequest(
+                items,
+                new Customer("Soumo", "soumo@gmail.com", "9876543210"),
+                new Address("Haltu", "Ballygunge", "Kolkata", "West Bengal", "700001", "India"));
+    }
+
+    static OrderEntity createOrderEntity(int itemCount) {
+        OrderEntity order = OrderMapper.convertToEntity(createOrderRequest(itemCount));
+        order.setUserName("user");
+        return order;
+    }
+
+    static Map<String, Product> catalogFor(CreateOrderRequest request) {
+        return request.items().stream()
+                .map(item -> new Product(item.code(), item.name(), null, null, item.price()))
+                .collect(Collectors.toMap(Product::code, Function.identity()));
+    }
+
+    static ObjectMapper objectMapper() {
+        return new ObjectMapper().findAndRegisterModules();
+    }
+
+    static ApplicationProperties applicationProperties(EventPayloadFormat format) {
+        return new ApplicationProperties(
+                "http://localhost:8081",
+                "orders-exchange",
+                "new-orders",
+                "delivered-orders",
+                "cancelled-orders",
+                "error-orders",
+                format,
+                500,
+                90,
+                1000,
+                500,
+                Duration.ofHours(24));
+    }
+}
@@ -0,0 +1,57 @@
+package com.supersection.bookstore.orders.domain;
+
+import com.supersection.bookstore.orders.domain.models.OrderCancelledEvent;
+import com.supersection.bookstore.orders.domain.models.OrderCreatedEvent;
+import com.supersection.bookstore.orders.domain.models.OrderDeliveredEvent;
+import com.supersection.bookstore.orders.domain.models.OrderErrorEvent;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderEventMapperBenchmark {
+
+    @Param({"1", "10", "100"})
+    int itemCount;
+
+    OrderEntity order;
+
+    @Setup
+    public void setUp() {
+        order = BenchmarkData.createOrderEntity(itemCount);
+    }
+
+    @Benchmark
+    public OrderCreatedEvent buildOrderCreatedEvent() {
+        return OrderEventMapper.buildOrderCreatedEvent(order);
+    }
+
+    @Benchmark
+    public OrderDeliveredEvent buildOrderDeliveredEvent() {
+        return OrderEventMapper.buildOrderDeliveredEvent(order);
+    }
+
+    @Benchmark
+    public OrderCancelledEvent buildOrderCancelledEvent() {
+        return OrderEventMapper.buildOrderCancelledEvent(order, "Can't deliver to the location");
+    }
+
+    @Benchmark
+    public OrderErrorEvent buildOrderErrorEvent() {
+        return OrderEventMapper.buildOrderErrorEvent(order, "Processing failed");
+    }
+}
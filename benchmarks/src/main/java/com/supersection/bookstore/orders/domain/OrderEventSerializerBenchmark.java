@@ -0,0 +1,73 @@
+package com.supersection.bookstore.orders.domain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.supersection.bookstore.orders.domain.models.EventPayloadFormat;
+import com.supersection.bookstore.orders.domain.models.OrderCreatedEvent;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderEventSerializerBenchmark {
+
+    @Param({"JSON", "SMILE", "CBOR"})
+    EventPayloadFormat format;
+
+    @Param({"1", "10"})
+    int itemCount;
+
+    OrderEventSerializer serializer;
+    ObjectReader decoder;
+    OrderCreatedEvent event;
+    byte[] payload;
+
+    @Setup
+    public void setUp() {
+        serializer =
+                new OrderEventSerializer(BenchmarkData.objectMapper(), BenchmarkData.applicationProperties(format));
+        event = OrderEventMapper.buildOrderCreatedEvent(BenchmarkData.createOrderEntity(itemCount));
+        payload = serializer.serialize(event);
+        // the consumer side: notification-service decodes with the same mapping on top of each format's factory
+        ObjectMapper json = BenchmarkData.objectMapper();
+        ObjectMapper mapper =
+                switch (format) {
+                    case JSON -> json;
+                    case SMILE -> json.copyWith(new SmileFactory());
+                    case CBOR -> json.copyWith(new CBORFactory());
+                };
+        decoder = mapper.readerFor(OrderCreatedEvent.class);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(event);
+    }
+
+    @Benchmark
+    public OrderCreatedEvent deserialize() throws IOException {
+        return decoder.readValue(payload);
+    }
+
+    @Benchmark
+    public OrderCreatedEvent roundTrip() throws IOException {
+        return decoder.readValue(serializer.serialize(event));
+    }
+}
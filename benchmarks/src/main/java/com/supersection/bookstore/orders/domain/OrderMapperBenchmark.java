@@ -0,0 +1,47 @@
+package com.supersection.bookstore.orders.domain;
+
+import com.supersection.bookstore.orders.domain.dtos.CreateOrderRequest;
+import com.supersection.bookstore.orders.domain.dtos.OrderDTO;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderMapperBenchmark {
+
+    @Param({"1", "10", "100"})
+    int itemCount;
+
+    CreateOrderRequest request;
+    OrderEntity order;
+
+    @Setup
+    public void setUp() {
+        request = BenchmarkData.createOrderRequest(itemCount);
+        order = BenchmarkData.createOrderEntity(itemCount);
+    }
+
+    @Benchmark
+    public OrderEntity convertToEntity() {
+        return OrderMapper.convertToEntity(request);
+    }
+
+    @Benchmark
+    public OrderDTO convertToDTO() {
+        return OrderMapper.convertToDTO(order);
+    }
+}
@@ -0,0 +1,52 @@
+package com.supersection.bookstore.orders.domain;
+
+import com.supersection.bookstore.orders.clients.catalog.StubCatalogReplica;
+import com.supersection.bookstore.orders.clients.catalog.StubProductServiceClient;
+import com.supersection.bookstore.orders.domain.dtos.CreateOrderRequest;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderValidatorBenchmark {
+
+    @Param({"1", "10", "100"})
+    int itemCount;
+
+    // false measures the fallback path, where every code is looked up through ProductServiceClient
+    @Param({"true", "false"})
+    boolean replicaSynced;
+
+    OrderValidator validator;
+    CreateOrderRequest request;
+
+    @Setup
+    public void setUp() {
+        request = BenchmarkData.createOrderRequest(itemCount);
+        var client = new StubProductServiceClient(BenchmarkData.catalogFor(request));
+        var catalogReplica = new StubCatalogReplica(client);
+        if (replicaSynced) {
+            catalogReplica.sync();
+        }
+        validator = new OrderValidator(catalogReplica, client);
+    }
+
+    @Benchmark
+    public void validate() {
+        validator.validate(request);
+    }
+}
@@ -7,4 +7,8 @@ import org.springframework.validation.annotation.Validated;
 
 @Validated
 @ConfigurationProperties(prefix = "catalog")
-public record ApplicationProperties(@DefaultValue("10") @Min(1) int pageSize) {}
+public record ApplicationProperties(
+        @DefaultValue("10") @Min(1) int pageSize,
+        @DefaultValue("500") @Min(1) int exportFetchSize,
+        @DefaultValue("1000") @Min(1) int changesPageSize,
+        @DefaultValue("1000") @Min(0) int importMaxReportedErrors) {}
@@ -0,0 +1,28 @@
+package com.supersection.bookstore.catalog.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+// Connections are fetched lazily, so by the time one is needed the transaction manager has already
+// marked it read-only and the proxy can hand out a replica connection instead of a primary one.
+class ReadReplicaDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+    private final HikariDataSource primary;
+    private final HikariDataSource replica;
+
+    ReadReplicaDataSource(HikariDataSource primary, HikariDataSource replica) {
+        super(primary);
+        setReadOnlyDataSource(replica);
+        this.primary = primary;
+        this.replica = replica;
+    }
+
+    HikariDataSource replica() {
+        return replica;
+    }
+
+    @Override
+    public void close() {
+        replica.close();
+        primary.close();
+    }
+}
@@ -0,0 +1,62 @@
+package com.supersection.bookstore.catalog.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.Properties;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnCheckpointRestore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.HikariCheckpointRestoreLifecycle;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "catalog.replica-datasource", name = "url")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+class ReadReplicaDataSourceConfig {
+
+    // Wraps the auto-configured pool rather than replacing it, so service connections,
+    // spring.datasource.hikari.* settings and pool metrics keep applying to the primary.
+    @Bean
+    static BeanPostProcessor readReplicaDataSourcePostProcessor(
+            ObjectProvider<ReplicaDataSourceProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource primary && "dataSource".equals(beanName)) {
+                    return new ReadReplicaDataSource(primary, replicaDataSource(primary, properties.getObject()));
+                }
+                return bean;
+            }
+        };
+    }
+
+    // Boot only suspends the primary pool around a CRaC checkpoint, the replica pool needs the same treatment
+    @Bean
+    @ConditionalOnCheckpointRestore
+    HikariCheckpointRestoreLifecycle replicaCheckpointRestoreLifecycle(
+            DataSource dataSource, ConfigurableApplicationContext applicationContext) {
+        return new HikariCheckpointRestoreLifecycle(((ReadReplicaDataSource) dataSource).replica(), applicationContext);
+    }
+
+    private static HikariDataSource replicaDataSource(
+            HikariDataSource primary, ReplicaDataSourceProperties properties) {
+        HikariDataSource replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(properties.url())
+                .username(properties.username() != null ? properties.username() : primary.getUsername())
+                .password(properties.password() != null ? properties.password() : primary.getPassword())
+                .build();
+        replica.setPoolName(primary.getPoolName() != null ? primary.getPoolName() + "-replica" : "replica-pool");
+        replica.setMaximumPoolSize(properties.maximumPoolSize());
+        replica.setReadOnly(true);
+        Properties driverProperties = new Properties();
+        driverProperties.putAll(primary.getDataSourceProperties());
+        replica.setDataSourceProperties(driverProperties);
+        return replica;
+    }
+}
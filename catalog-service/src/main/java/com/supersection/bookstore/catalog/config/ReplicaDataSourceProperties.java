@@ -0,0 +1,8 @@
+package com.supersection.bookstore.catalog.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "catalog.replica-datasource")
+record ReplicaDataSourceProperties(
+        String url, String username, String password, @DefaultValue("10") int maximumPoolSize) {}
@@ -0,0 +1,17 @@
+package com.supersection.bookstore.catalog.domain;
+
+import java.util.List;
+
+// A page of the changes feed; version is the value to pass as "since" for the next page.
+public record ProductChanges(List<Product> products, long version, boolean hasMore) {
+
+    record VersionedProduct(Product product, long version) {}
+
+    // rows are fetched with limit + 1, so hasMore needs no extra count query
+    static ProductChanges of(List<VersionedProduct> rows, long since, int limit) {
+        boolean hasMore = rows.size() > limit;
+        List<VersionedProduct> page = hasMore ? rows.subList(0, limit) : rows;
+        long version = page.isEmpty() ? since : page.getLast().version();
+        return new ProductChanges(page.stream().map(VersionedProduct::product).toList(), version, hasMore);
+    }
+}
@@ -8,6 +8,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import java.math.BigDecimal;
@@ -40,4 +41,11 @@ class ProductEntity {
 
     @NotNull(message = "Product price is required") @DecimalMin("0.1") @Column(nullable = false)
     private BigDecimal price;
+
+    // null when stock is not tracked for the product
+    @Min(0) private Integer stock;
+
+    // assigned by the products_version trigger on every insert and on updates of the catalog columns
+    @Column(insertable = false, updatable = false)
+    private Long version;
 }
@@ -0,0 +1,39 @@
+package com.supersection.bookstore.catalog.domain;
+
+import com.supersection.bookstore.catalog.ApplicationProperties;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("!reactive")
+class ProductExportReader {
+    private static final String SELECT_PRODUCTS =
+            "select code, name, description, image_url, price from products order by id";
+
+    private static final RowMapper<Product> ROW_MAPPER = (rs, rowNum) -> new Product(
+            rs.getString("code"),
+            rs.getString("name"),
+            rs.getString("description"),
+            rs.getString("image_url"),
+            rs.getBigDecimal("price"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    ProductExportReader(DataSource dataSource, ApplicationProperties properties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(properties.exportFetchSize());
+    }
+
+    // The Postgres driver only uses a server-side cursor for the fetch size when auto-commit is off,
+    // so this must run inside a transaction; rows are handed on one at a time and never collected.
+    void forEachProduct(Consumer<Product> action) {
+        try (Stream<Product> products = jdbcTemplate.queryForStream(SELECT_PRODUCTS, ROW_MAPPER)) {
+            products.forEach(action);
+        }
+    }
+}
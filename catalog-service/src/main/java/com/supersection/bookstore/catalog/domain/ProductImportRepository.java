@@ -0,0 +1,157 @@
+package com.supersection.bookstore.catalog.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@Profile("!reactive")
+class ProductImportRepository {
+    private static final String CREATE_STAGING_TABLE =
+            """
+            create temp table product_import_staging
+            (
+                row_number  bigint  not null,
+                code        text    not null,
+                name        text    not null,
+                description text,
+                image_url   text,
+                price       numeric not null,
+                stock       integer
+            ) on commit drop
+            """;
+    private static final String COPY_INTO_STAGING =
+            """
+            copy product_import_staging (row_number, code, name, description, image_url, price, stock)
+            from stdin (format csv)
+            """;
+    // The last row wins when a code repeats in one upload. Unchanged rows are skipped, so a re-imported feed does not
+    // show up in the changes feed, and a feed without stock leaves the current stock alone.
+    private static final String MERGE_STAGING =
+            """
+            with upserted as (
+                insert into products (code, name, description, image_url, price, stock)
+                select distinct on (code) code, name, description, image_url, price, stock
+                from product_import_staging
+                order by code, row_number desc
+                on conflict (code) do update
+                    set name        = excluded.name,
+                        description = excluded.description,
+                        image_url   = excluded.image_url,
+                        price       = excluded.price,
+                        stock       = coalesce(excluded.stock, products.stock)
+                    where (products.name, products.description, products.image_url, products.price, products.stock)
+                        is distinct from (excluded.name, excluded.description, excluded.image_url, excluded.price,
+                                          coalesce(excluded.stock, products.stock))
+                returning xmax = 0 as inserted
+            )
+            select count(*) filter (where inserted) as inserted, count(*) filter (where not inserted) as updated
+            from upserted
+            """;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    ProductImportRepository(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    // The staging table and the COPY share the connection bound to the current transaction, which must be open.
+    Staging startStaging() {
+        jdbcTemplate.execute(CREATE_STAGING_TABLE);
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_INTO_STAGING);
+            return new Staging(copyIn);
+        } catch (SQLException e) {
+            throw new UncategorizedSQLException("start COPY", COPY_INTO_STAGING, e);
+        }
+    }
+
+    MergeCounts mergeStaging() {
+        Map<String, Object> counts = jdbcTemplate.queryForMap(MERGE_STAGING);
+        return new MergeCounts(
+                ((Number) counts.get("inserted")).longValue(), ((Number) counts.get("updated")).longValue());
+    }
+
+    record MergeCounts(long inserted, long updated) {}
+
+    // Buffers rows as COPY csv text and hands them to the driver in chunks, so an upload is never held in memory.
+    static class Staging implements AutoCloseable {
+        private static final int FLUSH_THRESHOLD = 64 * 1024;
+
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD + 1024);
+
+        private Staging(CopyIn copyIn) {
+            this.copyIn = copyIn;
+        }
+
+        void add(long rowNumber, ProductEntity product) {
+            buffer.append(rowNumber).append(',');
+            appendQuoted(product.getCode()).append(',');
+            appendQuoted(product.getName()).append(',');
+            appendQuoted(product.getDescription()).append(',');
+            appendQuoted(product.getImageUrl()).append(',');
+            buffer.append(product.getPrice().toPlainString()).append(',');
+            if (product.getStock() != null) {
+                buffer.append(product.getStock());
+            }
+            buffer.append('\n');
+            if (buffer.length() >= FLUSH_THRESHOLD) {
+                flush();
+            }
+        }
+
+        long finish() {
+            flush();
+            try {
+                return copyIn.endCopy();
+            } catch (SQLException e) {
+                throw new UncategorizedSQLException("end COPY", COPY_INTO_STAGING, e);
+            }
+        }
+
+        // an unquoted empty field is NULL in COPY csv, a quoted one is an empty string
+        private StringBuilder appendQuoted(String value) {
+            if (value == null) {
+                return buffer;
+            }
+            return buffer.append('"').append(value.replace("\"", "\"\"")).append('"');
+        }
+
+        private void flush() {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            buffer.setLength(0);
+            try {
+                copyIn.writeToCopy(bytes, 0, bytes.length);
+            } catch (SQLException e) {
+                throw new UncategorizedSQLException("write COPY", COPY_INTO_STAGING, e);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (copyIn.isActive()) {
+                try {
+                    copyIn.cancelCopy();
+                } catch (SQLException e) {
+                    throw new UncategorizedSQLException("cancel COPY", COPY_INTO_STAGING, e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.supersection.bookstore.catalog.domain;
+
+import java.util.List;
+
+public record ProductImportResult(long rows, long inserted, long updated, long rejected, List<RowError> errors) {
+
+    public record RowError(long row, String code, List<String> messages) {}
+}
@@ -0,0 +1,5 @@
+package com.supersection.bookstore.catalog.domain;
+
+// One record of an uploaded CSV or NDJSON feed; numbers stay text so a bad value is reported, not a parse failure
+public record ProductImportRow(
+        String code, String name, String description, String imageUrl, String price, String stock) {}
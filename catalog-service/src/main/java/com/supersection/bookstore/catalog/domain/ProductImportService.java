@@ -0,0 +1,99 @@
+package com.supersection.bookstore.catalog.domain;
+
+import com.supersection.bookstore.catalog.ApplicationProperties;
+import com.supersection.bookstore.catalog.domain.ProductImportRepository.MergeCounts;
+import com.supersection.bookstore.catalog.domain.ProductImportRepository.Staging;
+import com.supersection.bookstore.catalog.domain.ProductImportResult.RowError;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional
+@Profile("!reactive")
+public class ProductImportService {
+    private static final Logger log = LoggerFactory.getLogger(ProductImportService.class);
+
+    private final ProductImportRepository importRepository;
+    private final Validator validator;
+    private final ApplicationProperties properties;
+
+    ProductImportService(
+            ProductImportRepository importRepository, Validator validator, ApplicationProperties properties) {
+        this.importRepository = importRepository;
+        this.validator = validator;
+        this.properties = properties;
+    }
+
+    // Valid rows are imported even when others are rejected; every rejected row is counted,
+    // but only the first catalog.import-max-reported-errors are returned.
+    public ProductImportResult importProducts(Iterator<ProductImportRow> rows) {
+        long rowNumber = 0;
+        long rejected = 0;
+        List<RowError> errors = new ArrayList<>();
+        try (Staging staging = importRepository.startStaging()) {
+            while (rows.hasNext()) {
+                rowNumber++;
+                ProductImportRow row = rows.next();
+                ProductEntity product = new ProductEntity();
+                List<String> messages = new ArrayList<>();
+                populate(product, row, messages);
+                if (messages.isEmpty()) {
+                    staging.add(rowNumber, product);
+                } else {
+                    rejected++;
+                    if (errors.size() < properties.importMaxReportedErrors()) {
+                        errors.add(new RowError(rowNumber, row.code(), messages));
+                    }
+                }
+            }
+            staging.finish();
+        }
+        MergeCounts counts = importRepository.mergeStaging();
+        log.info(
+                "Imported products: rows={}, inserted={}, updated={}, rejected={}",
+                rowNumber,
+                counts.inserted(),
+                counts.updated(),
+                rejected);
+        return new ProductImportResult(rowNumber, counts.inserted(), counts.updated(), rejected, errors);
+    }
+
+    // validated against ProductEntity itself, so the import enforces exactly the constraints of the entity
+    private void populate(ProductEntity product, ProductImportRow row, List<String> messages) {
+        product.setCode(row.code());
+        product.setName(row.name());
+        product.setDescription(row.description());
+        product.setImageUrl(row.imageUrl());
+        List<String> unparsed = new ArrayList<>();
+        if (row.price() != null) {
+            try {
+                product.setPrice(new BigDecimal(row.price().trim()));
+            } catch (NumberFormatException e) {
+                unparsed.add("price");
+            }
+        }
+        if (row.stock() != null) {
+            try {
+                product.setStock(Integer.valueOf(row.stock().trim()));
+            } catch (NumberFormatException e) {
+                unparsed.add("stock");
+            }
+        }
+        unparsed.forEach(property -> messages.add(property + ": must be a number"));
+        for (ConstraintViolation<ProductEntity> violation : validator.validate(product)) {
+            String property = violation.getPropertyPath().toString();
+            if (!unparsed.contains(property)) {
+                messages.add(property + ": " + violation.getMessage());
+            }
+        }
+    }
+}
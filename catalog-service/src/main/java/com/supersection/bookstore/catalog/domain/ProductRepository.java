@@ -1,10 +1,14 @@
 package com.supersection.bookstore.catalog.domain;
 
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
 interface ProductRepository extends JpaRepository<ProductEntity, Long> {
     Optional<ProductEntity> findByCode(String code);
+
+    List<ProductEntity> findByVersionGreaterThanOrderByVersionAsc(long version, Limit limit);
 }
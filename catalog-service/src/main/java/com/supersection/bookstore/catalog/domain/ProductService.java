@@ -2,7 +2,12 @@ package com.supersection.bookstore.catalog.domain;
 
 import com.supersection.bookstore.catalog.ApplicationProperties;
 import com.supersection.bookstore.catalog.common.dto.PagedResult;
+import com.supersection.bookstore.catalog.domain.ProductChanges.VersionedProduct;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -12,15 +17,22 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Transactional
+@Profile("!reactive")
 public class ProductService {
     private final ProductRepository productRepository;
+    private final ProductExportReader productExportReader;
     private final ApplicationProperties properties;
 
-    ProductService(ProductRepository productRepository, ApplicationProperties properties) {
+    ProductService(
+            ProductRepository productRepository,
+            ProductExportReader productExportReader,
+            ApplicationProperties properties) {
         this.productRepository = productRepository;
+        this.productExportReader = productExportReader;
         this.properties = properties;
     }
 
+    @Transactional(readOnly = true)
     public PagedResult<Product> getProducts(int pageNo) {
         Sort sort = Sort.by("name").ascending();
         pageNo = pageNo <= 1 ? 0 : pageNo - 1;
@@ -38,7 +50,23 @@ public class ProductService {
                 productsPage.hasPrevious());
     }
 
+    @Transactional(readOnly = true)
     public Optional<Product> getProductByCode(String code) {
         return productRepository.findByCode(code).map(ProductMapper::toProduct);
     }
+
+    @Transactional(readOnly = true)
+    public ProductChanges getProductChanges(long since) {
+        int limit = properties.changesPageSize();
+        List<VersionedProduct> rows =
+                productRepository.findByVersionGreaterThanOrderByVersionAsc(since, Limit.of(limit + 1)).stream()
+                        .map(entity -> new VersionedProduct(ProductMapper.toProduct(entity), entity.getVersion()))
+                        .toList();
+        return ProductChanges.of(rows, since, limit);
+    }
+
+    @Transactional(readOnly = true)
+    public void exportProducts(Consumer<Product> action) {
+        productExportReader.forEachProduct(action);
+    }
 }
@@ -0,0 +1,74 @@
+package com.supersection.bookstore.catalog.domain;
+
+import com.supersection.bookstore.catalog.domain.ProductChanges.VersionedProduct;
+import io.r2dbc.spi.Readable;
+import java.math.BigDecimal;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+@Profile("reactive")
+class ReactiveProductRepository {
+    private static final String COLUMNS = "code, name, description, image_url, price";
+
+    private final DatabaseClient databaseClient;
+
+    ReactiveProductRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    Flux<Product> findAllOrderByName(int limit, long offset) {
+        return databaseClient
+                .sql("select " + COLUMNS + " from products order by name limit :limit offset :offset")
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(ReactiveProductRepository::toProduct)
+                .all();
+    }
+
+    // the fetch size makes the driver pull rows in batches as the subscriber requests them
+    Flux<Product> findAllOrderById(int fetchSize) {
+        return databaseClient
+                .sql("select " + COLUMNS + " from products order by id")
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(ReactiveProductRepository::toProduct)
+                .all();
+    }
+
+    Flux<VersionedProduct> findChangesSince(long since, int limit) {
+        return databaseClient
+                .sql("select " + COLUMNS + ", version from products"
+                        + " where version > :since order by version limit :limit")
+                .bind("since", since)
+                .bind("limit", limit)
+                .map(row -> new VersionedProduct(toProduct(row), row.get("version", Long.class)))
+                .all();
+    }
+
+    Mono<Long> count() {
+        return databaseClient
+                .sql("select count(*) from products")
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    Mono<Product> findByCode(String code) {
+        return databaseClient
+                .sql("select " + COLUMNS + " from products where code = :code")
+                .bind("code", code)
+                .map(ReactiveProductRepository::toProduct)
+                .one();
+    }
+
+    private static Product toProduct(Readable row) {
+        return new Product(
+                row.get("code", String.class),
+                row.get("name", String.class),
+                row.get("description", String.class),
+                row.get("image_url", String.class),
+                row.get("price", BigDecimal.class));
+    }
+}
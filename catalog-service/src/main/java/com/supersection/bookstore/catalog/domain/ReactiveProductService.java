@@ -0,0 +1,57 @@
+package com.supersection.bookstore.catalog.domain;
+
+import com.supersection.bookstore.catalog.ApplicationProperties;
+import com.supersection.bookstore.catalog.common.dto.PagedResult;
+import java.util.List;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@Profile("reactive")
+public class ReactiveProductService {
+    private final ReactiveProductRepository productRepository;
+    private final ApplicationProperties properties;
+
+    ReactiveProductService(ReactiveProductRepository productRepository, ApplicationProperties properties) {
+        this.productRepository = productRepository;
+        this.properties = properties;
+    }
+
+    public Mono<PagedResult<Product>> getProducts(int pageNo) {
+        int pageIndex = pageNo <= 1 ? 0 : pageNo - 1;
+        int pageSize = properties.pageSize();
+        Mono<List<Product>> products = productRepository
+                .findAllOrderByName(pageSize, (long) pageIndex * pageSize)
+                .collectList();
+        return Mono.zip(products, productRepository.count())
+                .map(page -> toPagedResult(page.getT1(), page.getT2(), pageIndex, pageSize));
+    }
+
+    public Mono<Product> getProductByCode(String code) {
+        return productRepository.findByCode(code);
+    }
+
+    public Mono<ProductChanges> getProductChanges(long since) {
+        int limit = properties.changesPageSize();
+        return productRepository
+                .findChangesSince(since, limit + 1)
+                .collectList()
+                .map(rows -> ProductChanges.of(rows, since, limit));
+    }
+
+    public Flux<Product> exportProducts() {
+        return productRepository.findAllOrderById(properties.exportFetchSize());
+    }
+
+    // Same paging semantics as ProductService gets from Spring Data's Page
+    private static PagedResult<Product> toPagedResult(
+            List<Product> products, long totalElements, int pageIndex, int pageSize) {
+        int totalPages = (int) Math.ceil((double) totalElements / pageSize);
+        boolean hasNext = pageIndex + 1 < totalPages;
+        boolean hasPrevious = pageIndex > 0;
+        return new PagedResult<>(
+                products, totalElements, pageIndex + 1, totalPages, !hasPrevious, !hasNext, hasNext, hasPrevious);
+    }
+}
@@ -0,0 +1,87 @@
+package com.supersection.bookstore.catalog.domain;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@Profile("!reactive")
+class StockRepository {
+    private static final String DECREMENT_IF_AVAILABLE =
+            "update products set stock = stock - ? where code = ? and (stock is null or stock >= ?)";
+    private static final String SELECT_STOCK_FOR_UPDATE = "select stock from products where code = ? for update";
+    private static final String DECREMENT = "update products set stock = stock - ? where code = ?";
+    private static final String INCREMENT = "update products set stock = stock + ? where code = ?";
+    private static final String INSERT_RESERVATIONS =
+            """
+            insert into stock_reservations (order_number, code, quantity)
+            select r.order_number, ?, r.quantity
+            from unnest(?::text[], ?::int[]) as r(order_number, quantity)
+            on conflict do nothing
+            returning order_number
+            """;
+    private static final String SELECT_RESERVED_ORDERS =
+            "select order_number from stock_reservations where code = ? and order_number = any(?::text[])";
+    private static final String EXISTS_RESERVATION =
+            "select exists (select 1 from stock_reservations where order_number = ?)";
+    private static final String RELEASE_ORDER =
+            """
+            with released as (
+                delete from stock_reservations where order_number = ? returning code, quantity
+            )
+            update products p
+            set stock = p.stock + r.quantity
+            from released r
+            where p.code = r.code
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    StockRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    // the conditional decrement; products without tracked stock always succeed
+    boolean tryDecrement(String code, int quantity) {
+        return jdbcTemplate.update(DECREMENT_IF_AVAILABLE, quantity, code, quantity) == 1;
+    }
+
+    // empty for an unknown code, a single null element when stock is not tracked
+    List<Integer> lockStock(String code) {
+        return jdbcTemplate.queryForList(SELECT_STOCK_FOR_UPDATE, Integer.class, code);
+    }
+
+    void decrement(String code, int quantity) {
+        jdbcTemplate.update(DECREMENT, quantity, code);
+    }
+
+    void increment(String code, int quantity) {
+        jdbcTemplate.update(INCREMENT, quantity, code);
+    }
+
+    // returns the orders whose reservation row was written; an order that already holds one is skipped
+    Set<String> insertReservations(String code, Map<String, Integer> quantitiesByOrder) {
+        String[] orderNumbers = quantitiesByOrder.keySet().toArray(String[]::new);
+        Integer[] quantities = quantitiesByOrder.values().toArray(Integer[]::new);
+        return Set.copyOf(jdbcTemplate.queryForList(INSERT_RESERVATIONS, String.class, code, orderNumbers, quantities));
+    }
+
+    Set<String> findReservedOrders(String code, Collection<String> orderNumbers) {
+        return Set.copyOf(jdbcTemplate.queryForList(
+                SELECT_RESERVED_ORDERS, String.class, code, orderNumbers.toArray(String[]::new)));
+    }
+
+    boolean hasReservations(String orderNumber) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_RESERVATION, Boolean.class, orderNumber));
+    }
+
+    // idempotent: a second release of the same order finds no reservation rows
+    void release(String orderNumber) {
+        jdbcTemplate.update(RELEASE_ORDER, orderNumber);
+    }
+}
@@ -0,0 +1,143 @@
+package com.supersection.bookstore.catalog.domain;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Requests for the same product are queued, and whichever caller finds the product idle applies everything queued
+// behind it in one transaction. Concurrent orders for a hot product then take its row lock once per batch instead
+// of once per order, while an uncontended request is applied immediately by its own thread.
+@Component
+@Profile("!reactive")
+class StockReservationCoalescer {
+    private final StockRepository stockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DistributionSummary batchSize;
+    private final ConcurrentMap<String, ProductQueue> queues = new ConcurrentHashMap<>();
+
+    StockReservationCoalescer(
+            StockRepository stockRepository, TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.stockRepository = stockRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = DistributionSummary.builder("bookstore.stock.reservation.batch.size")
+                .description("Reservation requests for one product applied in a single transaction")
+                .register(meterRegistry);
+    }
+
+    CompletableFuture<Boolean> reserve(String orderNumber, String code, int quantity) {
+        ProductQueue queue = queues.computeIfAbsent(code, c -> new ProductQueue());
+        Request request = new Request(orderNumber, quantity, new CompletableFuture<>());
+        queue.pending.add(request);
+        drain(code, queue);
+        return request.result();
+    }
+
+    // Re-checks the queue after giving up the lead, so a request queued during the last batch is never stranded.
+    private void drain(String code, ProductQueue queue) {
+        while (!queue.pending.isEmpty() && queue.draining.compareAndSet(false, true)) {
+            try {
+                List<Request> batch = new ArrayList<>();
+                Request next;
+                while ((next = queue.pending.poll()) != null) {
+                    batch.add(next);
+                }
+                if (!batch.isEmpty()) {
+                    apply(code, batch);
+                }
+            } finally {
+                queue.draining.set(false);
+            }
+        }
+    }
+
+    // A batch holds at most one request per order; repeats of an order in the same batch share its outcome.
+    // When a batch fails, its orders are retried one by one so only the offending request sees the error.
+    private void apply(String code, List<Request> batch) {
+        batchSize.record(batch.size());
+        Map<String, List<Request>> requestsByOrder = new LinkedHashMap<>();
+        batch.forEach(request -> requestsByOrder
+                .computeIfAbsent(request.orderNumber(), orderNumber -> new ArrayList<>())
+                .add(request));
+        List<Request> first =
+                requestsByOrder.values().stream().map(List::getFirst).toList();
+        try {
+            Set<String> granted = transactionTemplate.execute(status -> allocate(code, first));
+            batch.forEach(request -> request.result().complete(granted.contains(request.orderNumber())));
+        } catch (RuntimeException e) {
+            if (requestsByOrder.size() == 1) {
+                batch.forEach(request -> request.result().completeExceptionally(e));
+            } else {
+                requestsByOrder.values().forEach(requests -> apply(code, requests));
+            }
+        }
+    }
+
+    private Set<String> allocate(String code, List<Request> batch) {
+        // a repeated request for an order that already holds this product keeps its reservation
+        Set<String> alreadyReserved = stockRepository.findReservedOrders(
+                code, batch.stream().map(Request::orderNumber).toList());
+        List<Request> pending = batch.stream()
+                .filter(request -> !alreadyReserved.contains(request.orderNumber()))
+                .toList();
+        if (pending.isEmpty()) {
+            return alreadyReserved;
+        }
+        int total = pending.stream().mapToInt(Request::quantity).sum();
+        List<Request> granted = pending;
+        if (!stockRepository.tryDecrement(code, total)) {
+            // not enough for the whole batch: lock the row and grant, in arrival order, whatever still fits
+            granted = new ArrayList<>();
+            List<Integer> stock = stockRepository.lockStock(code);
+            if (!stock.isEmpty()) {
+                // null if tracking was switched off since the conditional decrement
+                int available = stock.getFirst() != null ? stock.getFirst() : Integer.MAX_VALUE;
+                int remaining = available;
+                for (Request request : pending) {
+                    if (request.quantity() <= remaining) {
+                        granted.add(request);
+                        remaining -= request.quantity();
+                    }
+                }
+                stockRepository.decrement(code, available - remaining);
+            }
+        }
+        if (granted.isEmpty()) {
+            return alreadyReserved;
+        }
+        Map<String, Integer> quantitiesByOrder = new LinkedHashMap<>();
+        granted.forEach(request -> quantitiesByOrder.put(request.orderNumber(), request.quantity()));
+        Set<String> inserted = stockRepository.insertReservations(code, quantitiesByOrder);
+        // another instance reserved the same order in the meantime: give back what was taken for it here
+        int duplicated = granted.stream()
+                .filter(request -> !inserted.contains(request.orderNumber()))
+                .mapToInt(Request::quantity)
+                .sum();
+        if (duplicated > 0) {
+            stockRepository.increment(code, duplicated);
+        }
+        Set<String> reserved = new HashSet<>(alreadyReserved);
+        reserved.addAll(quantitiesByOrder.keySet());
+        return reserved;
+    }
+
+    private record Request(String orderNumber, int quantity, CompletableFuture<Boolean> result) {}
+
+    private static class ProductQueue {
+        private final Queue<Request> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+    }
+}
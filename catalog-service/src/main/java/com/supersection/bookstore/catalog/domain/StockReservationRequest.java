@@ -0,0 +1,16 @@
+package com.supersection.bookstore.catalog.domain;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+public record StockReservationRequest(
+        @NotBlank(message = "Order number is required") String orderNumber,
+        @Valid @NotEmpty(message = "Items cannot be empty") List<Item> items) {
+
+    public record Item(
+            @NotBlank(message = "Product code is required") String code,
+            @Min(value = 1, message = "Min quantity must be 1") int quantity) {}
+}
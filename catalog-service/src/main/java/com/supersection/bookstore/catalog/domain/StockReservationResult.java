@@ -0,0 +1,14 @@
+package com.supersection.bookstore.catalog.domain;
+
+import java.util.List;
+
+public record StockReservationResult(boolean reserved, List<String> unavailable) {
+
+    static StockReservationResult success() {
+        return new StockReservationResult(true, List.of());
+    }
+
+    static StockReservationResult unavailable(List<String> codes) {
+        return new StockReservationResult(false, codes);
+    }
+}
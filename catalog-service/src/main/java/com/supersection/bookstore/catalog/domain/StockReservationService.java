@@ -0,0 +1,79 @@
+package com.supersection.bookstore.catalog.domain;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Profile("!reactive")
+public class StockReservationService {
+    private static final Logger log = LoggerFactory.getLogger(StockReservationService.class);
+
+    private final StockReservationCoalescer coalescer;
+    private final StockRepository stockRepository;
+    private final Counter reservedCounter;
+    private final Counter rejectedCounter;
+
+    StockReservationService(
+            StockReservationCoalescer coalescer, StockRepository stockRepository, MeterRegistry meterRegistry) {
+        this.coalescer = coalescer;
+        this.stockRepository = stockRepository;
+        this.reservedCounter = Counter.builder("bookstore.stock.reservations")
+                .tag("outcome", "reserved")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("bookstore.stock.reservations")
+                .tag("outcome", "rejected")
+                .register(meterRegistry);
+    }
+
+    // All items or none: each product is reserved through its own batch, and whatever was granted is released
+    // again when any item of the order cannot be reserved.
+    public StockReservationResult reserve(StockReservationRequest request) {
+        String orderNumber = request.orderNumber();
+        if (stockRepository.hasReservations(orderNumber)) {
+            log.info("Stock already reserved for orderNumber: {}", orderNumber);
+            return StockReservationResult.success();
+        }
+        Map<String, Integer> quantities = new LinkedHashMap<>();
+        request.items().forEach(item -> quantities.merge(item.code(), item.quantity(), Integer::sum));
+
+        Map<String, CompletableFuture<Boolean>> results = new LinkedHashMap<>();
+        quantities.forEach((code, quantity) -> results.put(code, coalescer.reserve(orderNumber, code, quantity)));
+        // wait for every item before releasing, so no grant lands after the release
+        CompletableFuture.allOf(results.values().toArray(CompletableFuture[]::new))
+                .exceptionally(e -> null)
+                .join();
+
+        try {
+            List<String> unavailable = results.entrySet().stream()
+                    .filter(result -> !result.getValue().join())
+                    .map(Map.Entry::getKey)
+                    .toList();
+            if (unavailable.isEmpty()) {
+                reservedCounter.increment();
+                return StockReservationResult.success();
+            }
+            stockRepository.release(orderNumber);
+            rejectedCounter.increment();
+            log.info("Insufficient stock for orderNumber: {}, products: {}", orderNumber, unavailable);
+            return StockReservationResult.unavailable(unavailable);
+        } catch (RuntimeException e) {
+            stockRepository.release(orderNumber);
+            throw e;
+        }
+    }
+
+    @Transactional
+    public void release(String orderNumber) {
+        stockRepository.release(orderNumber);
+        log.info("Released stock for orderNumber: {}", orderNumber);
+    }
+}
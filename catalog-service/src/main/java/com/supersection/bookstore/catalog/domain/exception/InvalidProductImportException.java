@@ -0,0 +1,11 @@
+package com.supersection.bookstore.catalog.domain.exception;
+
+public class InvalidProductImportException extends RuntimeException {
+    public InvalidProductImportException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public static InvalidProductImportException malformed(Throwable cause) {
+        return new InvalidProductImportException("Malformed product import: " + cause.getMessage(), cause);
+    }
+}
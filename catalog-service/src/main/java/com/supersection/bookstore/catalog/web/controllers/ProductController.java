@@ -1,19 +1,35 @@
 package com.supersection.bookstore.catalog.web.controllers;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.supersection.bookstore.catalog.common.dto.PagedResult;
 import com.supersection.bookstore.catalog.domain.Product;
+import com.supersection.bookstore.catalog.domain.ProductChanges;
 import com.supersection.bookstore.catalog.domain.ProductService;
 import com.supersection.bookstore.catalog.domain.exception.ProductNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/products")
+@Profile("!reactive")
 class ProductController {
     private final ProductService productService;
+    private final ObjectWriter productWriter;
 
-    ProductController(ProductService productService) {
+    ProductController(ProductService productService, ObjectMapper objectMapper) {
         this.productService = productService;
+        // one JSON document per line, so the writer must neither close nor flush the response stream per product
+        this.productWriter = objectMapper
+                .writerFor(Product.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
     }
 
     @GetMapping
@@ -21,6 +37,24 @@ class ProductController {
         return productService.getProducts(pageNo);
     }
 
+    @GetMapping("/changes")
+    ProductChanges getProductChanges(@RequestParam(name = "since", defaultValue = "0") long since) {
+        return productService.getProductChanges(since);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    ResponseEntity<StreamingResponseBody> exportProducts() {
+        StreamingResponseBody body = out -> productService.exportProducts(product -> {
+            try {
+                productWriter.writeValue(out, product);
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @GetMapping("/{code}")
     ResponseEntity<Product> getProductByCode(@PathVariable String code) {
         return productService
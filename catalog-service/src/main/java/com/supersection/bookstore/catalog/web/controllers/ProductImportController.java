@@ -0,0 +1,85 @@
+package com.supersection.bookstore.catalog.web.controllers;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.supersection.bookstore.catalog.domain.ProductImportResult;
+import com.supersection.bookstore.catalog.domain.ProductImportRow;
+import com.supersection.bookstore.catalog.domain.ProductImportService;
+import com.supersection.bookstore.catalog.domain.exception.InvalidProductImportException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+// Bulk load for publisher feeds; the upload is parsed and copied into Postgres as it arrives.
+@RestController
+@RequestMapping("/api/admin/products")
+@Profile("!reactive")
+// rows are bound by hand rather than as a @RequestBody, so the native image needs the hint explicitly
+@RegisterReflectionForBinding(ProductImportRow.class)
+class ProductImportController {
+    private static final String TEXT_CSV = "text/csv";
+
+    private final ProductImportService productImportService;
+    private final ObjectReader csvReader;
+    private final ObjectReader ndjsonReader;
+
+    ProductImportController(ProductImportService productImportService, ObjectMapper objectMapper) {
+        this.productImportService = productImportService;
+        // columns are matched by the header row, in any order; empty cells read as missing values
+        this.csvReader = CsvMapper.builder()
+                .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build()
+                .readerFor(ProductImportRow.class)
+                .with(CsvSchema.emptySchema().withHeader());
+        this.ndjsonReader = objectMapper.readerFor(ProductImportRow.class);
+    }
+
+    @PostMapping(value = "/import", consumes = TEXT_CSV)
+    ProductImportResult importCsv(InputStream body) throws IOException {
+        return importProducts(csvReader, body);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    ProductImportResult importNdjson(InputStream body) throws IOException {
+        return importProducts(ndjsonReader, body);
+    }
+
+    private ProductImportResult importProducts(ObjectReader reader, InputStream body) throws IOException {
+        try (MappingIterator<ProductImportRow> rows = reader.readValues(body)) {
+            return productImportService.importProducts(malformedAsBadRequest(rows));
+        }
+    }
+
+    // MappingIterator wraps parse errors in generic runtime exceptions; report them as a 400 instead
+    private static Iterator<ProductImportRow> malformedAsBadRequest(MappingIterator<ProductImportRow> rows) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                try {
+                    return rows.hasNextValue();
+                } catch (IOException e) {
+                    throw InvalidProductImportException.malformed(e);
+                }
+            }
+
+            @Override
+            public ProductImportRow next() {
+                try {
+                    return rows.nextValue();
+                } catch (IOException e) {
+                    throw InvalidProductImportException.malformed(e);
+                }
+            }
+        };
+    }
+}
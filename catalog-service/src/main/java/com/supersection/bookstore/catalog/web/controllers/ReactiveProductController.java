@@ -0,0 +1,45 @@
+package com.supersection.bookstore.catalog.web.controllers;
+
+import com.supersection.bookstore.catalog.common.dto.PagedResult;
+import com.supersection.bookstore.catalog.domain.Product;
+import com.supersection.bookstore.catalog.domain.ProductChanges;
+import com.supersection.bookstore.catalog.domain.ReactiveProductService;
+import com.supersection.bookstore.catalog.domain.exception.ProductNotFoundException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/products")
+@Profile("reactive")
+class ReactiveProductController {
+    private final ReactiveProductService productService;
+
+    ReactiveProductController(ReactiveProductService productService) {
+        this.productService = productService;
+    }
+
+    @GetMapping
+    Mono<PagedResult<Product>> getProducts(@RequestParam(name = "page", defaultValue = "1") int pageNo) {
+        return productService.getProducts(pageNo);
+    }
+
+    @GetMapping("/changes")
+    Mono<ProductChanges> getProductChanges(@RequestParam(name = "since", defaultValue = "0") long since) {
+        return productService.getProductChanges(since);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    Flux<Product> exportProducts() {
+        return productService.exportProducts();
+    }
+
+    @GetMapping("/{code}")
+    Mono<Product> getProductByCode(@PathVariable String code) {
+        return productService
+                .getProductByCode(code)
+                .switchIfEmpty(Mono.error(() -> ProductNotFoundException.forCode(code)));
+    }
+}
@@ -0,0 +1,31 @@
+package com.supersection.bookstore.catalog.web.controllers;
+
+import com.supersection.bookstore.catalog.domain.StockReservationRequest;
+import com.supersection.bookstore.catalog.domain.StockReservationResult;
+import com.supersection.bookstore.catalog.domain.StockReservationService;
+import jakarta.validation.Valid;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/products/reservations")
+@Profile("!reactive")
+class StockReservationController {
+    private final StockReservationService stockReservationService;
+
+    StockReservationController(StockReservationService stockReservationService) {
+        this.stockReservationService = stockReservationService;
+    }
+
+    @PostMapping
+    StockReservationResult reserve(@Valid @RequestBody StockReservationRequest request) {
+        return stockReservationService.reserve(request);
+    }
+
+    @DeleteMapping("/{orderNumber}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    void release(@PathVariable String orderNumber) {
+        stockReservationService.release(orderNumber);
+    }
+}
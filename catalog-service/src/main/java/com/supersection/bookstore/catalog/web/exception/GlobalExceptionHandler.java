@@ -1,40 +1,29 @@
 package com.supersection.bookstore.catalog.web.exception;
 
+import com.supersection.bookstore.catalog.domain.exception.InvalidProductImportException;
 import com.supersection.bookstore.catalog.domain.exception.ProductNotFoundException;
-import java.net.URI;
-import java.time.Instant;
-import org.springframework.http.HttpStatus;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ProblemDetail;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
 @RestControllerAdvice
+@Profile("!reactive")
 class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
-    private static final URI NOT_FOUND_TYPE = URI.create("https://api.bookstore.com/errors/not-found");
-    private static final URI ISE_FOUND_TYPE = URI.create("https://api.bookstore.com/errors/server-error");
-    private static final String SERVICE_NAME = "catalog-service";
 
     @ExceptionHandler(Exception.class)
     ProblemDetail handleUnhandledException(Exception e) {
-        ProblemDetail problemDetail =
-                ProblemDetail.forStatusAndDetail(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
-        problemDetail.setTitle("Internal Server Error");
-        problemDetail.setType(ISE_FOUND_TYPE);
-        problemDetail.setProperty("service", SERVICE_NAME);
-        problemDetail.setProperty("error_category", "Generic");
-        problemDetail.setProperty("timestamp", Instant.now());
-        return problemDetail;
+        return ProblemDetails.forUnhandledException(e);
     }
 
     @ExceptionHandler(ProductNotFoundException.class)
     ProblemDetail handleProductNotFoundException(ProductNotFoundException e) {
-        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage());
-        problemDetail.setTitle("Product Not Found");
-        problemDetail.setType(NOT_FOUND_TYPE);
-        problemDetail.setProperty("service", SERVICE_NAME);
-        problemDetail.setProperty("error_category", "Generic");
-        problemDetail.setProperty("timestamp", Instant.now());
-        return problemDetail;
+        return ProblemDetails.forProductNotFound(e);
+    }
+
+    @ExceptionHandler(InvalidProductImportException.class)
+    ProblemDetail handleInvalidProductImportException(InvalidProductImportException e) {
+        return ProblemDetails.forInvalidProductImport(e);
     }
 }
@@ -0,0 +1,23 @@
+package com.supersection.bookstore.catalog.web.exception;
+
+import com.supersection.bookstore.catalog.domain.exception.ProductNotFoundException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.reactive.result.method.annotation.ResponseEntityExceptionHandler;
+
+@RestControllerAdvice
+@Profile("reactive")
+class ReactiveGlobalExceptionHandler extends ResponseEntityExceptionHandler {
+
+    @ExceptionHandler(Exception.class)
+    ProblemDetail handleUnhandledException(Exception e) {
+        return ProblemDetails.forUnhandledException(e);
+    }
+
+    @ExceptionHandler(ProductNotFoundException.class)
+    ProblemDetail handleProductNotFoundException(ProductNotFoundException e) {
+        return ProblemDetails.forProductNotFound(e);
+    }
+}
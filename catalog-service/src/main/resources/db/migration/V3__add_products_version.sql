@@ -0,0 +1,24 @@
+create sequence product_version_seq;
+
+-- existing rows are numbered by the (volatile) default while the column is added
+alter table products
+    add column version bigint default nextval('product_version_seq') not null;
+
+-- Every insert and update takes the next version. The advisory lock serialises catalog writers until commit,
+-- so versions become visible in increasing order and a reader polling "version > since" never skips one.
+create function products_next_version() returns trigger as
+$$
+begin
+    perform pg_advisory_xact_lock(hashtext('products_version'));
+    new.version := nextval('product_version_seq');
+    return new;
+end;
+$$ language plpgsql;
+
+create trigger products_version
+    before insert or update
+    on products
+    for each row
+execute function products_next_version();
+
+create index idx_products_version on products (version);
@@ -0,0 +1,22 @@
+-- null means stock is not tracked for the product, which keeps existing titles orderable
+alter table products
+    add column stock integer check (stock >= 0);
+
+create table stock_reservations
+(
+    order_number text      not null,
+    code         text      not null,
+    quantity     integer   not null,
+    created_at   timestamp not null default now(),
+    primary key (order_number, code)
+);
+
+-- Reservations update stock constantly. Only catalog data should bump the version for the changes feed,
+-- and reservations must not queue on the version trigger's advisory lock.
+drop trigger products_version on products;
+
+create trigger products_version
+    before insert or update of code, name, description, image_url, price
+    on products
+    for each row
+execute function products_next_version();
@@ -0,0 +1,62 @@
+package com.supersection.bookstore.catalog.config;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.supersection.bookstore.catalog.AbstractIntegrationTest;
+import io.restassured.http.ContentType;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+class ReadReplicaRoutingTest extends AbstractIntegrationTest {
+
+    static PostgreSQLContainer<?> replica = new PostgreSQLContainer<>(DockerImageName.parse("postgres:17-alpine3.21"));
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    // The replica gets the same schema as the primary plus one product the primary does not have,
+    // so a response containing it can only have been served from the replica.
+    @BeforeAll
+    static void startReplica() {
+        replica.start();
+        var replicaDataSource =
+                new DriverManagerDataSource(replica.getJdbcUrl(), replica.getUsername(), replica.getPassword());
+        Flyway.configure().dataSource(replicaDataSource).load().migrate();
+        new JdbcTemplate(replicaDataSource)
+                .update("insert into products(code, name, price) values ('R100', 'Replica Only Book', 10.0)");
+    }
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        registry.add("catalog.replica-datasource.url", replica::getJdbcUrl);
+        registry.add("catalog.replica-datasource.username", replica::getUsername);
+        registry.add("catalog.replica-datasource.password", replica::getPassword);
+    }
+
+    @Test
+    void shouldServeReadOnlyQueriesFromReplica() {
+        given().contentType(ContentType.JSON)
+                .when()
+                .get("/api/products/{code}", "R100")
+                .then()
+                .statusCode(200)
+                .body("name", is("Replica Only Book"));
+    }
+
+    @Test
+    void shouldKeepNonReadOnlyWorkOnPrimary() {
+        Integer count = jdbcTemplate.queryForObject("select count(*) from products where code = 'R100'", Integer.class);
+
+        assertThat(count).isZero();
+    }
+}
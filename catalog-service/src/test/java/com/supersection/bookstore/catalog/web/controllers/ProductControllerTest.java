@@ -7,8 +7,10 @@ import static org.hamcrest.Matchers.is;
 
 import com.supersection.bookstore.catalog.AbstractIntegrationTest;
 import com.supersection.bookstore.catalog.domain.Product;
+import com.supersection.bookstore.catalog.domain.ProductChanges;
 import io.restassured.http.ContentType;
 import java.math.BigDecimal;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.context.jdbc.Sql;
 
@@ -51,6 +53,44 @@ class ProductControllerTest extends AbstractIntegrationTest {
         assertThat(product.price()).isEqualTo(new BigDecimal("34.0"));
     }
 
+    @Test
+    void shouldReturnProductChangesSinceVersion() {
+        ProductChanges all = given().when()
+                .get("/api/products/changes?since={since}", 0)
+                .then()
+                .statusCode(200)
+                .extract()
+                .as(ProductChanges.class);
+
+        assertThat(all.products()).hasSize(15);
+        assertThat(all.hasMore()).isFalse();
+
+        ProductChanges none = given().when()
+                .get("/api/products/changes?since={since}", all.version())
+                .then()
+                .statusCode(200)
+                .extract()
+                .as(ProductChanges.class);
+
+        assertThat(none.products()).isEmpty();
+        assertThat(none.version()).isEqualTo(all.version());
+    }
+
+    @Test
+    void shouldExportAllProductsAsNdjson() {
+        String body = given().when()
+                .get("/api/products/export")
+                .then()
+                .statusCode(200)
+                .contentType("application/x-ndjson")
+                .extract()
+                .asString();
+
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(15);
+        assertThat(lines.getFirst()).contains("\"code\":\"P100\"");
+    }
+
     @Test
     void shouldReturnNotFoundWhenProductCodeNotExists() {
         String code = "invalid_product_code";
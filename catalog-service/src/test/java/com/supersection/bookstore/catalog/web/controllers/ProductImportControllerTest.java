@@ -0,0 +1,96 @@
+package com.supersection.bookstore.catalog.web.controllers;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.supersection.bookstore.catalog.AbstractIntegrationTest;
+import com.supersection.bookstore.catalog.domain.Product;
+import com.supersection.bookstore.catalog.domain.ProductImportResult;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.jdbc.Sql;
+
+@Sql("/test-data.sql")
+class ProductImportControllerTest extends AbstractIntegrationTest {
+
+    @Test
+    void shouldUpsertValidCsvRowsAndReportInvalidOnes() {
+        String csv =
+                """
+                code,name,description,imageUrl,price
+                P200,"New Book, Vol. 1","A ""quoted"" description",,12.50
+                P100,The Hunger Games,Winning will make you famous.,,39.99
+                P201,,No name,,0
+                P202,Bad Price,,,abc
+                """;
+
+        ProductImportResult result = given().contentType("text/csv")
+                .body(csv)
+                .when()
+                .post("/api/admin/products/import")
+                .then()
+                .statusCode(200)
+                .extract()
+                .as(ProductImportResult.class);
+
+        assertThat(result.rows()).isEqualTo(4);
+        assertThat(result.inserted()).isEqualTo(1);
+        assertThat(result.updated()).isEqualTo(1);
+        assertThat(result.rejected()).isEqualTo(2);
+        assertThat(result.errors()).hasSize(2);
+        assertThat(result.errors().get(0).row()).isEqualTo(3);
+        assertThat(result.errors().get(0).messages())
+                .containsExactlyInAnyOrder(
+                        "name: Product name is required", "price: must be greater than or equal to 0.1");
+        assertThat(result.errors().get(1).messages()).containsExactly("price: must be a number");
+
+        Product created = given().get("/api/products/{code}", "P200")
+                .then()
+                .statusCode(200)
+                .extract()
+                .as(Product.class);
+        assertThat(created.name()).isEqualTo("New Book, Vol. 1");
+        assertThat(created.description()).isEqualTo("A \"quoted\" description");
+        assertThat(created.imageUrl()).isNull();
+
+        given().get("/api/products/{code}", "P100").then().statusCode(200).body("price", is(39.99f));
+        given().get("/api/products/{code}", "P201").then().statusCode(404);
+    }
+
+    @Test
+    void shouldSkipUnchangedRowsOnNdjsonImport() {
+        String ndjson =
+                """
+                {"code":"P100","name":"The Hunger Games","description":"Winning will make you famous. Losing means certain death...","imageUrl":"https://images.gr-assets.com/books/1447303603l/2767052.jpg","price":34.0}
+                {"code":"P300","name":"Another Book","price":"15.00"}
+                """;
+
+        ProductImportResult result = given().contentType("application/x-ndjson")
+                .body(ndjson)
+                .when()
+                .post("/api/admin/products/import")
+                .then()
+                .statusCode(200)
+                .extract()
+                .as(ProductImportResult.class);
+
+        assertThat(result.rows()).isEqualTo(2);
+        assertThat(result.inserted()).isEqualTo(1);
+        assertThat(result.updated()).isZero();
+        assertThat(result.rejected()).isZero();
+        assertThat(given().get("/api/products/{code}", "P300").as(Product.class).price())
+                .isEqualTo(new BigDecimal("15.00"));
+    }
+
+    @Test
+    void shouldRejectMalformedUpload() {
+        given().contentType("application/x-ndjson")
+                .body("{\"code\":\"P400\",")
+                .when()
+                .post("/api/admin/products/import")
+                .then()
+                .statusCode(400)
+                .body("title", is("Invalid Product Import"));
+    }
+}
@@ -0,0 +1,24 @@
+package com.supersection.bookstore.catalog.web.controllers;
+
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+// Runs the ProductControllerTest contract against WebFlux + R2DBC
+@ActiveProfiles("reactive")
+class ReactiveProductControllerTest extends ProductControllerTest {
+
+    // The reactive stack has no JDBC DataSource; @Sql still needs one to load the test data
+    @TestConfiguration(proxyBeanMethods = false)
+    static class SqlScriptsDataSourceConfig {
+
+        @Bean
+        DataSource dataSource(JdbcConnectionDetails connectionDetails) {
+            return new DriverManagerDataSource(
+                    connectionDetails.getJdbcUrl(), connectionDetails.getUsername(), connectionDetails.getPassword());
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.supersection.bookstore.catalog.web.controllers;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import com.supersection.bookstore.catalog.AbstractIntegrationTest;
+import com.supersection.bookstore.catalog.domain.StockReservationRequest;
+import com.supersection.bookstore.catalog.domain.StockReservationRequest.Item;
+import com.supersection.bookstore.catalog.domain.StockReservationResult;
+import com.supersection.bookstore.catalog.domain.StockReservationService;
+import io.restassured.http.ContentType;
+import io.restassured.response.ValidatableResponse;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+@Sql("/test-data.sql")
+@Sql(
+        statements = {
+            "truncate table stock_reservations",
+            "update products set stock = 5 where code = 'P100'",
+            "update products set stock = 1 where code = 'P101'"
+        })
+class StockReservationControllerTest extends AbstractIntegrationTest {
+
+    @Autowired
+    StockReservationService stockReservationService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldReserveAndReleaseStock() {
+        reserve("order-1", new Item("P100", 3)).statusCode(200).body("reserved", is(true));
+        assertThat(stockOf("P100")).isEqualTo(2);
+
+        reserve("order-2", new Item("P100", 3))
+                .statusCode(200)
+                .body("reserved", is(false))
+                .body("unavailable", contains("P100"));
+
+        given().when()
+                .delete("/api/products/reservations/{orderNumber}", "order-1")
+                .then()
+                .statusCode(204);
+        assertThat(stockOf("P100")).isEqualTo(5);
+    }
+
+    @Test
+    void shouldReserveAllItemsOrNone() {
+        reserve("order-1", new Item("P100", 2), new Item("P101", 2))
+                .statusCode(200)
+                .body("reserved", is(false))
+                .body("unavailable", contains("P101"));
+
+        assertThat(stockOf("P100")).isEqualTo(5);
+        assertThat(stockOf("P101")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotOversellUnderConcurrentReservations() throws Exception {
+        List<Callable<StockReservationResult>> orders = IntStream.range(0, 20)
+                .mapToObj(i -> (Callable<StockReservationResult>) () -> stockReservationService.reserve(
+                        new StockReservationRequest("order-" + i, List.of(new Item("P100", 1)))))
+                .toList();
+
+        long reserved;
+        try (ExecutorService executor = Executors.newFixedThreadPool(10)) {
+            reserved = executor.invokeAll(orders).stream()
+                    .map(Future::resultNow)
+                    .filter(StockReservationResult::reserved)
+                    .count();
+        }
+
+        assertThat(reserved).isEqualTo(5);
+        assertThat(stockOf("P100")).isZero();
+    }
+
+    @Test
+    void shouldReserveOnceForConcurrentDuplicatesOfAnOrder() throws Exception {
+        List<Callable<StockReservationResult>> orders = IntStream.range(0, 20)
+                .mapToObj(i -> (Callable<StockReservationResult>) () -> stockReservationService.reserve(
+                        new StockReservationRequest("order-" + (i % 2), List.of(new Item("P100", 2)))))
+                .toList();
+
+        List<StockReservationResult> results;
+        try (ExecutorService executor = Executors.newFixedThreadPool(10)) {
+            results = executor.invokeAll(orders).stream().map(Future::resultNow).toList();
+        }
+
+        assertThat(results).allMatch(StockReservationResult::reserved);
+        assertThat(stockOf("P100")).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("select sum(quantity) from stock_reservations", Integer.class))
+                .isEqualTo(4);
+    }
+
+    private ValidatableResponse reserve(String orderNumber, Item... items) {
+        return given().contentType(ContentType.JSON)
+                .body(new StockReservationRequest(orderNumber, List.of(items)))
+                .when()
+                .post("/api/products/reservations")
+                .then();
+    }
+
+    private Integer stockOf(String code) {
+        return jdbcTemplate.queryForObject("select stock from products where code = ?", Integer.class, code);
+    }
+}
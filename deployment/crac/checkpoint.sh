@@ -0,0 +1,75 @@
+#!/usr/bin/env bash
+# Builds supersection/bookstore-<service>:crac, an image that restores a JVM checkpointed after a warm-up,
+# so replicas start in milliseconds with an already warmed JIT.
+#
+# Usage: deployment/crac/checkpoint.sh catalog-service|order-service
+# Needs Docker on Linux; the warm-up runs against the local containers from deployment/docker-compose.
+set -euo pipefail
+
+SERVICE="${1:?usage: $0 catalog-service|order-service}"
+ROOT="$(cd "$(dirname "$0")/../.." && pwd)"
+DC="docker compose -f $ROOT/deployment/docker-compose/infra.yml -f $ROOT/deployment/docker-compose/apps.yml"
+NETWORK="bookstore-microservice-application_default"
+IMAGE="supersection/bookstore-$SERVICE"
+CONTAINER="$SERVICE-checkpoint"
+WARMUP_ITERATIONS="${WARMUP_ITERATIONS:-2000}"
+
+case "$SERVICE" in
+  catalog-service)
+    PORT=8081
+    $DC up -d --wait catalog-db
+    ENV=(-e DB_URL=jdbc:postgresql://catalog-db:5432/postgres)
+    ;;
+  order-service)
+    PORT=8082
+    $DC up -d --wait orders-db bookstore-rabbitmq catalog-service
+    ENV=(-e DB_URL=jdbc:postgresql://orders-db:5432/postgres
+         -e ORDERS_CATALOG_SERVICE_URL=http://catalog-service:8081
+         -e RABBITMQ_HOST=bookstore-rabbitmq)
+    ;;
+  *)
+    echo "unsupported service: $SERVICE" >&2
+    exit 1
+    ;;
+esac
+
+warm_up_catalog() {
+  for i in $(seq "$WARMUP_ITERATIONS"); do
+    curl -fs -o /dev/null "http://localhost:$PORT/api/products?page=$((i % 3 + 1))"
+    curl -fs -o /dev/null "http://localhost:$PORT/api/products/P10$((i % 10))"
+  done
+}
+
+warm_up_orders() {
+  local order='{"customer":{"name":"Warm Up","email":"warmup@mail.com","phone":"999999999"},
+    "deliveryAddress":{"addressLine1":"line 1","city":"Kolkata","state":"WB","zipCode":"700072","country":"India"},
+    "items":[{"code":"P100","name":"The Hunger Games","price":34.0,"quantity":1}]}'
+  for i in $(seq "$WARMUP_ITERATIONS"); do
+    curl -fs -o /dev/null -H "Content-Type: application/json" -d "$order" "http://localhost:$PORT/api/orders"
+    curl -fs -o /dev/null "http://localhost:$PORT/api/orders"
+  done
+}
+
+"$ROOT/mvnw" -q -f "$ROOT/pom.xml" -pl "$SERVICE" package -DskipTests
+# order-service repackages into a separate "exec" jar and keeps the plain jar as the main artifact
+JAR_FILE="$SERVICE/target/$SERVICE-0.0.1-SNAPSHOT-exec.jar"
+if [ ! -f "$ROOT/$JAR_FILE" ]; then
+  JAR_FILE="$SERVICE/target/$SERVICE-0.0.1-SNAPSHOT.jar"
+fi
+docker build -t "$IMAGE:crac-base" -f "$ROOT/deployment/crac/Dockerfile" \
+  --build-arg JAR_FILE="$JAR_FILE" "$ROOT"
+
+docker rm -f "$CONTAINER" >/dev/null 2>&1 || true
+docker run -d --name "$CONTAINER" --network "$NETWORK" -p "$PORT:$PORT" \
+  --cap-add CHECKPOINT_RESTORE --cap-add SYS_PTRACE \
+  -e DB_USERNAME=postgres -e DB_PASSWORD=postgres "${ENV[@]}" "$IMAGE:crac-base"
+until curl -fs -o /dev/null "http://localhost:$PORT/actuator/health"; do sleep 1; done
+
+if [ "$SERVICE" = "catalog-service" ]; then warm_up_catalog; else warm_up_orders; fi
+
+# The lifecycle stops the web server, scheduler, pools and clients, the JVM dumps itself and exits
+docker exec "$CONTAINER" jcmd app.jar JDK.checkpoint
+docker wait "$CONTAINER" >/dev/null
+docker commit --change 'ENTRYPOINT ["java", "-XX:CRaCRestoreFrom=/opt/crac"]' "$CONTAINER" "$IMAGE:crac"
+docker rm "$CONTAINER" >/dev/null
+echo "Built $IMAGE:crac"
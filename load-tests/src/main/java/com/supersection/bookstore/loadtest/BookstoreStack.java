@@ -0,0 +1,125 @@
+package com.supersection.bookstore.loadtest;
+
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetup;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.testcontainers.Testcontainers;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.RabbitMQContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.lifecycle.Startables;
+import org.testcontainers.utility.DockerImageName;
+
+class BookstoreStack implements AutoCloseable {
+    private static final String POSTGRES_IMAGE = "postgres:17-alpine3.21";
+    private static final String RABBITMQ_IMAGE = "rabbitmq:4.1.0-alpine";
+    private static final String RABBITMQ_ALIAS = "bookstore-rabbitmq";
+    private static final int SMTP_PORT = 3025;
+
+    private final Network network = Network.newNetwork();
+    private final PostgreSQLContainer<?> catalogDb = postgres("catalog-db");
+    private final PostgreSQLContainer<?> ordersDb = postgres("orders-db");
+    private final PostgreSQLContainer<?> notificationsDb = postgres("notifications-db");
+    private final RabbitMQContainer rabbitmq = new RabbitMQContainer(DockerImageName.parse(RABBITMQ_IMAGE))
+            .withNetwork(network)
+            .withNetworkAliases(RABBITMQ_ALIAS);
+    private final GreenMail greenMail = new GreenMail(new ServerSetup(SMTP_PORT, "0.0.0.0", ServerSetup.PROTOCOL_SMTP))
+            .withConfiguration(GreenMailConfiguration.aConfig().withDisabledAuthentication());
+    private final GenericContainer<?> catalogService;
+    private final GenericContainer<?> orderService;
+    private final GenericContainer<?> notificationService;
+
+    BookstoreStack(String imageTag) {
+        catalogService = service("catalog-service", imageTag, 8081)
+                .withEnv("DB_URL", "jdbc:postgresql://catalog-db:5432/postgres")
+                .dependsOn(catalogDb);
+        orderService = service("order-service", imageTag, 8082)
+                .withEnv("DB_URL", "jdbc:postgresql://orders-db:5432/postgres")
+                .withEnv("ORDERS_CATALOG_SERVICE_URL", "http://catalog-service:8081")
+                .withEnv("RABBITMQ_HOST", RABBITMQ_ALIAS)
+                .withEnv("RABBITMQ_PORT", "5672")
+                .dependsOn(ordersDb, rabbitmq, catalogService);
+        notificationService = service("notification-service", imageTag, 8083)
+                .withEnv("DB_URL", "jdbc:postgresql://notifications-db:5432/postgres")
+                .withEnv("RABBITMQ_HOST", RABBITMQ_ALIAS)
+                .withEnv("RABBITMQ_PORT", "5672")
+                .withEnv("MAIL_HOST", GenericContainer.INTERNAL_HOST_HOSTNAME)
+                .withEnv("MAIL_PORT", String.valueOf(SMTP_PORT))
+                .withEnv("SPRING_MAIL_PROPERTIES_MAIL_SMTP_STARTTLS_ENABLE", "false")
+                .dependsOn(notificationsDb, rabbitmq);
+    }
+
+    void start() {
+        startInfrastructure();
+        services().values().forEach(GenericContainer::start);
+    }
+
+    void startInfrastructure() {
+        greenMail.start();
+        Testcontainers.exposeHostPorts(SMTP_PORT);
+        Startables.deepStart(catalogDb, ordersDb, notificationsDb, rabbitmq).join();
+    }
+
+    // In dependency order, so each service can be started (and timed) on its own after startInfrastructure()
+    Map<String, GenericContainer<?>> services() {
+        Map<String, GenericContainer<?>> services = new LinkedHashMap<>();
+        services.put("catalog-service", catalogService);
+        services.put("order-service", orderService);
+        services.put("notification-service", notificationService);
+        return services;
+    }
+
+    String catalogServiceUrl() {
+        return "http://%s:%d".formatted(catalogService.getHost(), catalogService.getMappedPort(8081));
+    }
+
+    String orderServiceUrl() {
+        return "http://%s:%d".formatted(orderService.getHost(), orderService.getMappedPort(8082));
+    }
+
+    String rabbitMqUri() {
+        return rabbitmq.getAmqpUrl();
+    }
+
+    GreenMail greenMail() {
+        return greenMail;
+    }
+
+    @Override
+    public void close() {
+        notificationService.stop();
+        orderService.stop();
+        catalogService.stop();
+        rabbitmq.stop();
+        notificationsDb.stop();
+        ordersDb.stop();
+        catalogDb.stop();
+        greenMail.stop();
+        network.close();
+    }
+
+    private PostgreSQLContainer<?> postgres(String alias) {
+        return new PostgreSQLContainer<>(DockerImageName.parse(POSTGRES_IMAGE))
+                .withDatabaseName("postgres")
+                .withUsername("postgres")
+                .withPassword("postgres")
+                .withNetwork(network)
+                .withNetworkAliases(alias);
+    }
+
+    private GenericContainer<?> service(String name, String imageTag, int port) {
+        return new GenericContainer<>(DockerImageName.parse("supersection/bookstore-" + name + ":" + imageTag))
+                .withNetwork(network)
+                .withNetworkAliases(name)
+                .withExposedPorts(port)
+                .withEnv("DB_USERNAME", "postgres")
+                .withEnv("DB_PASSWORD", "postgres")
+                .waitingFor(Wait.forHttp("/actuator/health").forStatusCode(200))
+                .withStartupTimeout(Duration.ofMinutes(3));
+    }
+}
@@ -0,0 +1,129 @@
+package com.supersection.bookstore.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.utility.DockerImageName;
+
+// Compares catalog-service on Spring MVC + JPA with the "reactive" profile (WebFlux + R2DBC): for each
+// concurrency level, that many clients hold a connection open and issue requests back to back. The report shows
+// where throughput stops scaling, the latency that costs, and how much memory each open connection adds.
+public class CatalogStackComparison {
+    private static final String POSTGRES_IMAGE = "postgres:17-alpine3.21";
+
+    public static void main(String[] args) throws Exception {
+        String[] levelProperty = System.getProperty("catalog.concurrency-levels", "64,256,1024,2048")
+                .split(",");
+        List<Integer> levels =
+                Arrays.stream(levelProperty).map(Integer::parseInt).toList();
+        Duration levelDuration = Duration.parse(System.getProperty("catalog.level-duration", "PT30S"));
+        String imageTag = System.getProperty("load.image-tag", "latest");
+
+        System.out.println("%-10s %-8s %s %10s %12s"
+                .formatted("stack", "clients", LatencyRecorder.header(), "rss MiB", "KiB/client"));
+        for (String profile : List.of("default", "reactive")) {
+            try (Network network = Network.newNetwork();
+                    PostgreSQLContainer<?> db = new PostgreSQLContainer<>(DockerImageName.parse(POSTGRES_IMAGE))
+                            .withDatabaseName("postgres")
+                            .withUsername("postgres")
+                            .withPassword("postgres")
+                            .withNetwork(network)
+                            .withNetworkAliases("catalog-db");
+                    GenericContainer<?> catalog = catalogService(imageTag, profile, network)) {
+                db.start();
+                catalog.start();
+                String baseUrl = "http://%s:%d".formatted(catalog.getHost(), catalog.getMappedPort(8081));
+                run(baseUrl, 16, Duration.ofSeconds(10), new LatencyRecorder("warm-up"));
+                double idleMiB = ContainerMemory.residentMiB(catalog);
+                for (int clients : levels) {
+                    LatencyRecorder recorder = new LatencyRecorder("GET /api/products");
+                    double rssMiB = run(baseUrl, clients, levelDuration, recorder, catalog);
+                    System.out.println("%-10s %-8d %s %10s %12s"
+                            .formatted(
+                                    profile,
+                                    clients,
+                                    recorder.report(levelDuration),
+                                    ContainerMemory.format(rssMiB),
+                                    ContainerMemory.format((rssMiB - idleMiB) * 1024 / clients)));
+                }
+            }
+        }
+    }
+
+    private static GenericContainer<?> catalogService(String imageTag, String profile, Network network) {
+        return new GenericContainer<>(DockerImageName.parse("supersection/bookstore-catalog-service:" + imageTag))
+                .withNetwork(network)
+                .withExposedPorts(8081)
+                .withEnv("SPRING_PROFILES_ACTIVE", profile)
+                .withEnv("DB_URL", "jdbc:postgresql://catalog-db:5432/postgres")
+                .withEnv("R2DBC_URL", "r2dbc:postgresql://catalog-db:5432/postgres")
+                .withEnv("DB_USERNAME", "postgres")
+                .withEnv("DB_PASSWORD", "postgres")
+                .waitingFor(Wait.forHttp("/actuator/health").forStatusCode(200))
+                .withStartupTimeout(Duration.ofMinutes(3));
+    }
+
+    private static void run(String baseUrl, int clients, Duration duration, LatencyRecorder recorder)
+            throws InterruptedException {
+        run(baseUrl, clients, duration, recorder, null);
+    }
+
+    // Returns the service's resident memory sampled while all clients are connected, or 0 without a container
+    private static double run(
+            String baseUrl, int clients, Duration duration, LatencyRecorder recorder, GenericContainer<?> service)
+            throws InterruptedException {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        long deadline = System.nanoTime() + duration.toNanos();
+        double rssMiB = 0;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        request(httpClient, baseUrl, recorder);
+                    }
+                });
+            }
+            if (service != null) {
+                Thread.sleep(duration.dividedBy(2).toMillis());
+                rssMiB = ContainerMemory.residentMiB(service);
+            }
+            executor.shutdown();
+            executor.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS);
+        }
+        httpClient.close();
+        return rssMiB;
+    }
+
+    private static void request(HttpClient httpClient, String baseUrl, LatencyRecorder recorder) {
+        int page = ThreadLocalRandom.current().nextInt(1, 3);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/products?page=" + page))
+                .timeout(Duration.ofSeconds(30))
+                .build();
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() == 200) {
+                recorder.record(System.nanoTime() - start);
+            } else {
+                recorder.recordError();
+            }
+        } catch (Exception e) {
+            recorder.recordError();
+        }
+    }
+}
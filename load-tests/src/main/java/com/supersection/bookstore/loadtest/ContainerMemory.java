@@ -0,0 +1,46 @@
+package com.supersection.bookstore.loadtest;
+
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.model.Statistics;
+import java.util.concurrent.TimeUnit;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+
+class ContainerMemory {
+
+    // cgroup v1 reports rss directly; on cgroup v2 only the total usage is available.
+    // null when docker did not return stats before the timeout
+    static Long residentBytes(GenericContainer<?> container) throws InterruptedException {
+        var callback = new ResultCallback.Adapter<Statistics>() {
+            volatile Statistics statistics;
+
+            @Override
+            public void onNext(Statistics statistics) {
+                this.statistics = statistics;
+            }
+        };
+        DockerClientFactory.instance()
+                .client()
+                .statsCmd(container.getContainerId())
+                .withNoStream(true)
+                .exec(callback)
+                .awaitCompletion(10, TimeUnit.SECONDS);
+        Statistics statistics = callback.statistics;
+        if (statistics == null || statistics.getMemoryStats() == null) {
+            return null;
+        }
+        var memory = statistics.getMemoryStats();
+        Long rss = memory.getStats() == null ? null : memory.getStats().getRss();
+        return rss != null ? rss : memory.getUsage();
+    }
+
+    // NaN when unknown, so derived figures are unknown too
+    static double residentMiB(GenericContainer<?> container) throws InterruptedException {
+        Long bytes = residentBytes(container);
+        return bytes != null ? bytes / (1024.0 * 1024.0) : Double.NaN;
+    }
+
+    static String format(double mib) {
+        return Double.isNaN(mib) ? "n/a" : "%.1f".formatted(mib);
+    }
+}
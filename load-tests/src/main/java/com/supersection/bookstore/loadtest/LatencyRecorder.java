@@ -0,0 +1,57 @@
+package com.supersection.bookstore.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+class LatencyRecorder {
+
+    private final String stage;
+    private final ConcurrentLinkedQueue<Long> samples = new ConcurrentLinkedQueue<>();
+    private final AtomicLong errors = new AtomicLong();
+
+    LatencyRecorder(String stage) {
+        this.stage = stage;
+    }
+
+    void record(long nanos) {
+        samples.add(nanos);
+    }
+
+    void recordError() {
+        errors.incrementAndGet();
+    }
+
+    String report(Duration elapsed) {
+        List<Long> sorted = new ArrayList<>(samples);
+        Collections.sort(sorted);
+        double throughput = sorted.size() / (elapsed.toMillis() / 1000.0);
+        return "%-24s %8d %8d %10.1f %10.1f %10.1f %10.1f %10.1f"
+                .formatted(
+                        stage,
+                        sorted.size(),
+                        errors.get(),
+                        throughput,
+                        percentile(sorted, 0.50),
+                        percentile(sorted, 0.90),
+                        percentile(sorted, 0.99),
+                        percentile(sorted, 1.0));
+    }
+
+    static String header() {
+        return "%-24s %8s %8s %10s %10s %10s %10s %10s"
+                .formatted("stage", "count", "errors", "per-sec", "p50 ms", "p90 ms", "p99 ms", "max ms");
+    }
+
+    private static double percentile(List<Long> sorted, double percentile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0)) / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
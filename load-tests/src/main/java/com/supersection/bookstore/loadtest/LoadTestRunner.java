@@ -0,0 +1,238 @@
+package com.supersection.bookstore.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Connection;
+import com.rabbitmq.client.ConnectionFactory;
+import jakarta.mail.internet.MimeMessage;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class LoadTestRunner {
+    private static final String ORDER_EVENTS_EXCHANGE = "orders-exchange";
+    private static final String NEW_ORDERS_ROUTING_KEY = "new-orders";
+    private static final Pattern ORDER_NUMBER = Pattern.compile("orderNumber: ([0-9a-f-]{36})");
+
+    private final LoadTestSettings settings;
+    private final BookstoreStack stack;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    private final ExecutorService requestExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(3);
+
+    private final Map<String, Long> orderCreatedAt = new ConcurrentHashMap<>();
+    private final Map<String, Long> eventPublishedAt = new ConcurrentHashMap<>();
+    private final Map<String, Long> notificationSentAt = new ConcurrentHashMap<>();
+
+    private final LatencyRecorder productRequests = new LatencyRecorder("GET /api/products");
+    private final LatencyRecorder productByCodeRequests = new LatencyRecorder("GET /api/products/{code}");
+    private final LatencyRecorder orderRequests = new LatencyRecorder("POST /api/orders");
+    private final LatencyRecorder outboxLag = new LatencyRecorder("order -> event published");
+    private final LatencyRecorder notificationDelivery = new LatencyRecorder("order -> email received");
+
+    private List<JsonNode> products;
+    private int processedMails;
+
+    LoadTestRunner(LoadTestSettings settings, BookstoreStack stack) {
+        this.settings = settings;
+        this.stack = stack;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        try (BookstoreStack stack = new BookstoreStack(settings.imageTag())) {
+            stack.start();
+            new LoadTestRunner(settings, stack).run();
+        }
+    }
+
+    void run() throws Exception {
+        products = loadProducts();
+        try (Connection connection = tapOrderEvents()) {
+            scheduler.scheduleAtFixedRate(this::pollMailbox, 0, 50, TimeUnit.MILLISECONDS);
+
+            long start = System.nanoTime();
+            schedule(settings.productRequestsPerSecond(), this::getProducts);
+            schedule(settings.ordersPerSecond(), this::createOrder);
+            Thread.sleep(settings.duration().toMillis());
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            scheduler.shutdownNow();
+            requestExecutor.shutdown();
+            requestExecutor.awaitTermination(30, TimeUnit.SECONDS);
+            awaitPipelineDrained();
+            report(elapsed);
+        }
+    }
+
+    private void schedule(int ratePerSecond, Runnable request) {
+        if (ratePerSecond <= 0) {
+            return;
+        }
+        long periodMicros = TimeUnit.SECONDS.toMicros(1) / ratePerSecond;
+        scheduler.scheduleAtFixedRate(() -> requestExecutor.submit(request), 0, periodMicros, TimeUnit.MICROSECONDS);
+    }
+
+    private void getProducts() {
+        String path = ThreadLocalRandom.current().nextBoolean()
+                ? "/api/products?page=" + ThreadLocalRandom.current().nextInt(1, 3)
+                : "/api/products/" + randomProduct().get("code").asText();
+        LatencyRecorder recorder = path.contains("?") ? productRequests : productByCodeRequests;
+        send(
+                recorder,
+                HttpRequest.newBuilder(URI.create(stack.catalogServiceUrl() + path))
+                        .GET()
+                        .build());
+    }
+
+    private void createOrder() {
+        JsonNode product = randomProduct();
+        String payload =
+                """
+                {
+                    "customer": {"name": "Load Test", "email": "load-test@bookstore.com", "phone": "9876543210"},
+                    "deliveryAddress": {
+                        "addressLine1": "Haltu", "addressLine2": "Ballygunge", "city": "Kolkata",
+                        "state": "West Bengal", "zipCode": "700001", "country": "India"
+                    },
+                    "items": [{"code": "%s", "name": "%s", "price": %s, "quantity": 1}]
+                }
+                """
+                        .formatted(
+                                product.get("code").asText(),
+                                product.get("name").asText(),
+                                product.get("price").decimalValue().toPlainString());
+        HttpRequest request = HttpRequest.newBuilder(URI.create(stack.orderServiceUrl() + "/api/orders"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(payload))
+                .build();
+        String body = send(orderRequests, request);
+        if (body != null) {
+            try {
+                orderCreatedAt.put(
+                        objectMapper.readTree(body).get("orderNumber").asText(), System.nanoTime());
+            } catch (Exception e) {
+                orderRequests.recordError();
+            }
+        }
+    }
+
+    private String send(LatencyRecorder recorder, HttpRequest request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() >= 400) {
+                recorder.recordError();
+                return null;
+            }
+            recorder.record(System.nanoTime() - start);
+            return response.body();
+        } catch (Exception e) {
+            recorder.recordError();
+            return null;
+        }
+    }
+
+    private List<JsonNode> loadProducts() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(stack.catalogServiceUrl() + "/api/products"))
+                .GET()
+                .build();
+        String body =
+                httpClient.send(request, HttpResponse.BodyHandlers.ofString()).body();
+        return objectMapper.readTree(body).get("data").valueStream().toList();
+    }
+
+    private JsonNode randomProduct() {
+        return products.get(ThreadLocalRandom.current().nextInt(products.size()));
+    }
+
+    // Binds an extra queue to the new-orders routing key so the driver sees when the outbox relay publishes.
+    private Connection tapOrderEvents() throws Exception {
+        ConnectionFactory connectionFactory = new ConnectionFactory();
+        connectionFactory.setUri(stack.rabbitMqUri());
+        Connection connection = connectionFactory.newConnection();
+        Channel channel = connection.createChannel();
+        String queue = channel.queueDeclare().getQueue();
+        channel.queueBind(queue, ORDER_EVENTS_EXCHANGE, NEW_ORDERS_ROUTING_KEY);
+        channel.basicConsume(
+                queue,
+                true,
+                (consumerTag, delivery) -> {
+                    long receivedAt = System.nanoTime();
+                    String orderNumber = objectMapper
+                            .readTree(delivery.getBody())
+                            .get("orderNumber")
+                            .asText();
+                    eventPublishedAt.put(orderNumber, receivedAt);
+                    Long createdAt = orderCreatedAt.get(orderNumber);
+                    if (createdAt != null) {
+                        outboxLag.record(receivedAt - createdAt);
+                    }
+                },
+                consumerTag -> {});
+        return connection;
+    }
+
+    private synchronized void pollMailbox() {
+        try {
+            MimeMessage[] messages = stack.greenMail().getReceivedMessages();
+            long receivedAt = System.nanoTime();
+            for (; processedMails < messages.length; processedMails++) {
+                MimeMessage message = messages[processedMails];
+                if (!"Order Created Notification".equals(message.getSubject())) {
+                    continue;
+                }
+                Matcher matcher = ORDER_NUMBER.matcher(String.valueOf(message.getContent()));
+                if (matcher.find()) {
+                    String orderNumber = matcher.group(1);
+                    notificationSentAt.put(orderNumber, receivedAt);
+                    Long createdAt = orderCreatedAt.get(orderNumber);
+                    if (createdAt != null) {
+                        notificationDelivery.record(receivedAt - createdAt);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            notificationDelivery.recordError();
+        }
+    }
+
+    private void awaitPipelineDrained() throws InterruptedException {
+        long deadline = System.nanoTime() + settings.drainTimeout().toNanos();
+        while (System.nanoTime() < deadline && notificationSentAt.size() < orderCreatedAt.size()) {
+            Thread.sleep(200);
+            pollMailbox();
+        }
+    }
+
+    private void report(Duration elapsed) {
+        System.out.printf(
+                "%nLoad test: %d products req/s, %d orders/s for %s%n%n",
+                settings.productRequestsPerSecond(), settings.ordersPerSecond(), settings.duration());
+        System.out.println(LatencyRecorder.header());
+        for (LatencyRecorder recorder :
+                List.of(productRequests, productByCodeRequests, orderRequests, outboxLag, notificationDelivery)) {
+            System.out.println(recorder.report(elapsed));
+        }
+        System.out.printf(
+                "%nOrders created: %d, events published: %d, notifications received: %d%n",
+                orderCreatedAt.size(), eventPublishedAt.size(), notificationSentAt.size());
+    }
+}
@@ -0,0 +1,16 @@
+package com.supersection.bookstore.loadtest;
+
+import java.time.Duration;
+
+record LoadTestSettings(
+        int productRequestsPerSecond, int ordersPerSecond, Duration duration, Duration drainTimeout, String imageTag) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("load.products-per-second", 50),
+                Integer.getInteger("load.orders-per-second", 10),
+                Duration.parse(System.getProperty("load.duration", "PT60S")),
+                Duration.parse(System.getProperty("load.drain-timeout", "PT60S")),
+                System.getProperty("load.image-tag", "latest"));
+    }
+}
@@ -0,0 +1,48 @@
+package com.supersection.bookstore.loadtest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.testcontainers.containers.GenericContainer;
+
+// Starts the stack once per image tag (e.g. the JVM "latest" images and the "-Pnative" images) and reports, per
+// service, the time until /actuator/health is UP, the startup time Spring Boot logs, and the resident memory.
+public class StartupReport {
+    private static final Pattern STARTED = Pattern.compile("Started \\w+ in ([0-9.]+) seconds");
+
+    public static void main(String[] args) throws Exception {
+        List<String> imageTags = List.of(
+                System.getProperty("startup.image-tags", "latest,native").split(","));
+        System.out.println(header());
+        for (String imageTag : imageTags) {
+            try (BookstoreStack stack = new BookstoreStack(imageTag)) {
+                stack.startInfrastructure();
+                for (Map.Entry<String, GenericContainer<?>> service :
+                        stack.services().entrySet()) {
+                    GenericContainer<?> container = service.getValue();
+                    long start = System.nanoTime();
+                    container.start();
+                    Duration ready = Duration.ofNanos(System.nanoTime() - start);
+                    System.out.println("%-22s %-8s %12d %12s %10s"
+                            .formatted(
+                                    service.getKey(),
+                                    imageTag,
+                                    ready.toMillis(),
+                                    reportedStartup(container),
+                                    ContainerMemory.format(ContainerMemory.residentMiB(container))));
+                }
+            }
+        }
+    }
+
+    private static String header() {
+        return "%-22s %-8s %12s %12s %10s".formatted("service", "image", "ready ms", "started s", "rss MiB");
+    }
+
+    private static String reportedStartup(GenericContainer<?> container) {
+        Matcher matcher = STARTED.matcher(container.getLogs());
+        return matcher.find() ? matcher.group(1) : "-";
+    }
+}
@@ -0,0 +1,46 @@
+package com.supersection.bookstore.notifications.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+class JacksonBinaryMessageConverter implements MessageConverter {
+
+    private final ObjectMapper objectMapper;
+    private final String contentType;
+
+    JacksonBinaryMessageConverter(ObjectMapper objectMapper, String contentType) {
+        this.objectMapper = objectMapper;
+        this.contentType = contentType;
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(object);
+            messageProperties.setContentType(contentType);
+            messageProperties.setContentLength(body.length);
+            return new Message(body, messageProperties);
+        } catch (IOException e) {
+            throw new MessageConversionException("Failed to convert object to " + contentType, e);
+        }
+    }
+
+    @Override
+    public Object fromMessage(Message message) {
+        Type targetType = message.getMessageProperties().getInferredArgumentType();
+        if (targetType == null) {
+            return message.getBody();
+        }
+        try {
+            return objectMapper.readValue(
+                    message.getBody(), objectMapper.getTypeFactory().constructType(targetType));
+        } catch (IOException e) {
+            throw new MessageConversionException("Failed to convert " + contentType + " message", e);
+        }
+    }
+}
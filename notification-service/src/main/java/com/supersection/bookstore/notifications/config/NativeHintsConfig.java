@@ -0,0 +1,19 @@
+package com.supersection.bookstore.notifications.config;
+
+import com.supersection.bookstore.notifications.domain.models.OrderCancelledEvent;
+import com.supersection.bookstore.notifications.domain.models.OrderCreatedEvent;
+import com.supersection.bookstore.notifications.domain.models.OrderDeliveredEvent;
+import com.supersection.bookstore.notifications.domain.models.OrderErrorEvent;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+
+// Listener payloads are bound by the message converters at runtime, which Spring AOT cannot see,
+// so the native image needs the event records (and their nested types) registered explicitly.
+@Configuration(proxyBeanMethods = false)
+@RegisterReflectionForBinding({
+    OrderCreatedEvent.class,
+    OrderCancelledEvent.class,
+    OrderDeliveredEvent.class,
+    OrderErrorEvent.class
+})
+class NativeHintsConfig {}
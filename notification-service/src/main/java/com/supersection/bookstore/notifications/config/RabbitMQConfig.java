@@ -1,6 +1,8 @@
 package com.supersection.bookstore.notifications.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.supersection.bookstore.notifications.ApplicationProperties;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
@@ -9,6 +11,7 @@ import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.ContentTypeDelegatingMessageConverter;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -70,12 +73,20 @@ class RabbitMQConfig {
     @Bean
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, ObjectMapper objectMapper) {
         final var rabbitTemplate = new RabbitTemplate(connectionFactory);
-        rabbitTemplate.setMessageConverter(jacksonConverter(objectMapper));
+        rabbitTemplate.setMessageConverter(messageConverter(objectMapper));
+        rabbitTemplate.setObservationEnabled(true);
         return rabbitTemplate;
     }
 
     @Bean
-    public Jackson2JsonMessageConverter jacksonConverter(ObjectMapper mapper) {
-        return new Jackson2JsonMessageConverter(mapper);
+    public ContentTypeDelegatingMessageConverter messageConverter(ObjectMapper mapper) {
+        var converter = new ContentTypeDelegatingMessageConverter(new Jackson2JsonMessageConverter(mapper));
+        converter.addDelegate(
+                "application/x-jackson-smile",
+                new JacksonBinaryMessageConverter(mapper.copyWith(new SmileFactory()), "application/x-jackson-smile"));
+        converter.addDelegate(
+                "application/cbor",
+                new JacksonBinaryMessageConverter(mapper.copyWith(new CBORFactory()), "application/cbor"));
+        return converter;
     }
 }
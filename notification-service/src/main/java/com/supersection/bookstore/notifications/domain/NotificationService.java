@@ -5,6 +5,8 @@ import com.supersection.bookstore.notifications.domain.models.OrderCancelledEven
 import com.supersection.bookstore.notifications.domain.models.OrderCreatedEvent;
 import com.supersection.bookstore.notifications.domain.models.OrderDeliveredEvent;
 import com.supersection.bookstore.notifications.domain.models.OrderErrorEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.mail.internet.MimeMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,10 +20,15 @@ public class NotificationService {
 
     private final JavaMailSender emailSender;
     private final ApplicationProperties properties;
+    private final Timer smtpSendTimer;
 
-    public NotificationService(JavaMailSender emailSender, ApplicationProperties properties) {
+    public NotificationService(
+            JavaMailSender emailSender, ApplicationProperties properties, MeterRegistry meterRegistry) {
         this.emailSender = emailSender;
         this.properties = properties;
+        this.smtpSendTimer = Timer.builder("bookstore.notifications.smtp.send")
+                .description("Time spent handing a notification email to the SMTP server")
+                .register(meterRegistry);
     }
 
     public void sendOrderCreatedNotification(OrderCreatedEvent event) {
@@ -106,7 +113,9 @@ public class NotificationService {
             helper.setTo(recipient);
             helper.setSubject(subject);
             helper.setText(content);
+            Timer.Sample sample = Timer.start();
             emailSender.send(mimeMessage);
+            sample.stop(smtpSendTimer);
             log.info("Email sent to: {}", recipient);
         } catch (Exception e) {
             throw new RuntimeException("Error while sending email", e);
@@ -1,5 +1,6 @@
 package com.supersection.bookstore.notifications.domain.models;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Set;
 
@@ -9,4 +10,6 @@ public record OrderCreatedEvent(
         Set<OrderItem> items,
         Customer customer,
         Address deliveryAddress,
+        BigDecimal totalAmount,
+        Integer itemCount,
         LocalDateTime createdAt) {}
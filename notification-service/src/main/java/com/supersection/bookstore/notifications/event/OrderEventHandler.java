@@ -7,8 +7,15 @@ import com.supersection.bookstore.notifications.domain.models.OrderCancelledEven
 import com.supersection.bookstore.notifications.domain.models.OrderCreatedEvent;
 import com.supersection.bookstore.notifications.domain.models.OrderDeliveredEvent;
 import com.supersection.bookstore.notifications.domain.models.OrderErrorEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,57 +27,109 @@ public class OrderEventHandler {
 
     private final NotificationService notificationService;
     private final OrderEventRepository orderEventRepository;
+    private final Timer dedupTimer;
+    private final Timer createdReceiptTimer;
+    private final Timer deliveredReceiptTimer;
+    private final Timer cancelledReceiptTimer;
+    private final Timer errorReceiptTimer;
+    private final AtomicLong lastEventAgeMillis = new AtomicLong();
 
-    OrderEventHandler(NotificationService notificationService, OrderEventRepository orderEventRepository) {
+    OrderEventHandler(
+            NotificationService notificationService,
+            OrderEventRepository orderEventRepository,
+            MeterRegistry meterRegistry) {
         this.notificationService = notificationService;
         this.orderEventRepository = orderEventRepository;
+        this.dedupTimer = Timer.builder("bookstore.notifications.dedup")
+                .description("Time spent checking whether an order event was already handled")
+                .register(meterRegistry);
+        this.createdReceiptTimer = receiptTimer(meterRegistry, "OrderCreatedEvent");
+        this.deliveredReceiptTimer = receiptTimer(meterRegistry, "OrderDeliveredEvent");
+        this.cancelledReceiptTimer = receiptTimer(meterRegistry, "OrderCancelledEvent");
+        this.errorReceiptTimer = receiptTimer(meterRegistry, "OrderErrorEvent");
+        Gauge.builder("bookstore.notifications.event.age", lastEventAgeMillis, AtomicLong::get)
+                .description("Age of the most recently received order event, measured from its createdAt")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    private static Timer receiptTimer(MeterRegistry meterRegistry, String eventType) {
+        return Timer.builder("bookstore.notifications.receipt")
+                .description("Time from order event creation until it was received by the notification service")
+                .tag("event_type", eventType)
+                .register(meterRegistry);
     }
 
     @RabbitListener(queues = "${notifications.new-orders-queue}")
     public void handle(OrderCreatedEvent event) {
-        if (orderEventRepository.existsByEventId(event.eventId())) {
-            log.warn("Received duplicate OrderCreatedEvent with eventId: {}", event.eventId());
-            return;
-        }
-        log.info("Received a OrderCreatedEvent with orderNumber:{}: ", event.orderNumber());
-        notificationService.sendOrderCreatedNotification(event);
-        var orderEvent = new OrderEventEntity(event.eventId());
-        orderEventRepository.save(orderEvent);
+        process(
+                "OrderCreatedEvent",
+                createdReceiptTimer,
+                event.eventId(),
+                event.orderNumber(),
+                event.createdAt(),
+                () -> notificationService.sendOrderCreatedNotification(event));
     }
 
     @RabbitListener(queues = "${notifications.delivered-orders-queue}")
     public void handle(OrderDeliveredEvent event) {
-        if (orderEventRepository.existsByEventId(event.eventId())) {
-            log.warn("Received duplicate OrderDeliveredEvent with eventId: {}", event.eventId());
-            return;
-        }
-        log.info("Received a OrderDeliveredEvent with orderNumber:{}: ", event.orderNumber());
-        notificationService.sendOrderDeliveredNotification(event);
-        var orderEvent = new OrderEventEntity(event.eventId());
-        orderEventRepository.save(orderEvent);
+        process(
+                "OrderDeliveredEvent",
+                deliveredReceiptTimer,
+                event.eventId(),
+                event.orderNumber(),
+                event.createdAt(),
+                () -> notificationService.sendOrderDeliveredNotification(event));
     }
 
     @RabbitListener(queues = "${notifications.cancelled-orders-queue}")
     public void handle(OrderCancelledEvent event) {
-        if (orderEventRepository.existsByEventId(event.eventId())) {
-            log.warn("Received duplicate OrderCancelledEvent with eventId: {}", event.eventId());
-            return;
-        }
-        notificationService.sendOrderCancelledNotification(event);
-        log.info("Received a OrderCancelledEvent with orderNumber:{}: ", event.orderNumber());
-        var orderEvent = new OrderEventEntity(event.eventId());
-        orderEventRepository.save(orderEvent);
+        process(
+                "OrderCancelledEvent",
+                cancelledReceiptTimer,
+                event.eventId(),
+                event.orderNumber(),
+                event.createdAt(),
+                () -> notificationService.sendOrderCancelledNotification(event));
     }
 
     @RabbitListener(queues = "${notifications.error-orders-queue}")
     public void handle(OrderErrorEvent event) {
-        if (orderEventRepository.existsByEventId(event.eventId())) {
-            log.warn("Received duplicate OrderErrorEvent with eventId: {}", event.eventId());
-            return;
+        process(
+                "OrderErrorEvent",
+                errorReceiptTimer,
+                event.eventId(),
+                event.orderNumber(),
+                event.createdAt(),
+                () -> notificationService.sendOrderErrorEventNotification(event));
+    }
+
+    private void process(
+            String eventType,
+            Timer receiptTimer,
+            String eventId,
+            String orderNumber,
+            LocalDateTime createdAt,
+            Runnable notification) {
+        try (var ignored = MDC.putCloseable("eventId", eventId)) {
+            recordReceipt(receiptTimer, createdAt);
+
+            Timer.Sample dedupSample = Timer.start();
+            boolean duplicate = orderEventRepository.existsByEventId(eventId);
+            dedupSample.stop(dedupTimer);
+            if (duplicate) {
+                log.warn("Received duplicate {} with eventId: {}", eventType, eventId);
+                return;
+            }
+            log.info("Received a {} with orderNumber:{}: ", eventType, orderNumber);
+            notification.run();
+            orderEventRepository.save(new OrderEventEntity(eventId));
         }
-        log.info("Received a OrderErrorEvent with orderNumber:{}: ", event.orderNumber());
-        notificationService.sendOrderErrorEventNotification(event);
-        OrderEventEntity orderEvent = new OrderEventEntity(event.eventId());
-        orderEventRepository.save(orderEvent);
+    }
+
+    private void recordReceipt(Timer receiptTimer, LocalDateTime createdAt) {
+        Duration age = Duration.between(createdAt, LocalDateTime.now());
+        lastEventAgeMillis.set(age.toMillis());
+        receiptTimer.record(age);
     }
 }
@@ -1,7 +1,9 @@
 package com.supersection.bookstore.notifications;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.test.context.aot.DisabledInAotMode;
 
+@DisabledInAotMode
 class NotificationServiceApplicationTests extends AbstractIntegrationTest {
 
     @Test
@@ -13,13 +13,16 @@ import com.supersection.bookstore.notifications.domain.models.OrderCancelledEven
 import com.supersection.bookstore.notifications.domain.models.OrderCreatedEvent;
 import com.supersection.bookstore.notifications.domain.models.OrderDeliveredEvent;
 import com.supersection.bookstore.notifications.domain.models.OrderErrorEvent;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.aot.DisabledInAotMode;
 
+@DisabledInAotMode
 class OrderEventHandlerTests extends AbstractIntegrationTest {
     @Autowired
     RabbitTemplate rabbitTemplate;
@@ -35,7 +38,14 @@ class OrderEventHandlerTests extends AbstractIntegrationTest {
         String orderNumber = UUID.randomUUID().toString();
 
         var event = new OrderCreatedEvent(
-                UUID.randomUUID().toString(), orderNumber, Set.of(), customer, address, LocalDateTime.now());
+                UUID.randomUUID().toString(),
+                orderNumber,
+                Set.of(),
+                customer,
+                address,
+                BigDecimal.ZERO,
+                0,
+                LocalDateTime.now());
         rabbitTemplate.convertAndSend(properties.orderEventsExchange(), properties.newOrdersQueue(), event);
 
         await().atMost(30, SECONDS).untilAsserted(() -> {
@@ -1,6 +1,9 @@
 package com.supersection.bookstore.orders;
 
+import com.supersection.bookstore.orders.domain.models.EventPayloadFormat;
+import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 @ConfigurationProperties(prefix = "orders")
 public record ApplicationProperties(
@@ -9,4 +12,10 @@ public record ApplicationProperties(
         String newOrdersQueue,
         String deliveredOrdersQueue,
         String cancelledOrdersQueue,
-        String errorOrdersQueue) {}
+        String errorOrdersQueue,
+        @DefaultValue("json") EventPayloadFormat eventPayloadFormat,
+        @DefaultValue("500") int outboxFetchSize,
+        @DefaultValue("90") int archiveAfterDays,
+        @DefaultValue("1000") int archiveBatchSize,
+        @DefaultValue("500") int exportFetchSize,
+        @DefaultValue("24h") Duration idempotencyKeyTtl) {}
@@ -0,0 +1,96 @@
+package com.supersection.bookstore.orders.clients.catalog;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Gradient-style limit: compares the long-term average round trip time with the latest one. When catalog-service
+// slows down the ratio drops below 1 and the limit shrinks; while latency stays flat it grows by a small queue
+// allowance. Timeouts and connection failures back the limit off multiplicatively.
+class AdaptiveConcurrencyLimiter {
+    private static final int WARMUP_SAMPLES = 10;
+    private static final int LONG_WINDOW_SAMPLES = 600;
+    private static final double RTT_TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double QUEUE_ALLOWANCE = 4;
+    private static final double DROP_BACKOFF = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    private volatile double longRttNanos;
+    private volatile long lastRttNanos;
+    private long samples;
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+    }
+
+    boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    void release(long rttNanos, boolean dropped) {
+        int inFlightBeforeRelease = inFlight.getAndDecrement();
+        if (dropped) {
+            onDrop();
+        } else {
+            onSample(rttNanos, inFlightBeforeRelease);
+        }
+    }
+
+    // the call was abandoned by its caller, so its outcome says nothing about catalog-service
+    void cancel() {
+        inFlight.decrementAndGet();
+    }
+
+    int getLimit() {
+        return (int) limit;
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    long getLastRttNanos() {
+        return lastRttNanos;
+    }
+
+    long getLongRttNanos() {
+        return (long) longRttNanos;
+    }
+
+    private synchronized void onDrop() {
+        limit = Math.max(minLimit, limit * DROP_BACKOFF);
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightBeforeRelease) {
+        lastRttNanos = rttNanos;
+        samples++;
+        if (samples <= WARMUP_SAMPLES) {
+            longRttNanos += (rttNanos - longRttNanos) / samples;
+        } else {
+            longRttNanos += (rttNanos - longRttNanos) * 2 / (LONG_WINDOW_SAMPLES + 1);
+        }
+        // after a slow period the long-term average lags behind; pull it down so the limit can recover
+        if (longRttNanos / rttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+        // a limit that is not being used says nothing about how much catalog-service can take
+        if (inFlightBeforeRelease < limit / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * longRttNanos / rttNanos));
+        double target = limit * gradient + QUEUE_ALLOWANCE;
+        limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - SMOOTHING) + target * SMOOTHING));
+    }
+}
@@ -0,0 +1,70 @@
+package com.supersection.bookstore.orders.clients.catalog;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+// Applies the adaptive limit to every catalog-service exchange. A call over the limit fails immediately instead of
+// queueing behind the read timeout; the round trip is measured up to the response headers.
+class CatalogConcurrencyLimitInterceptor implements ClientHttpRequestInterceptor {
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final Counter rejectedCounter;
+
+    CatalogConcurrencyLimitInterceptor(AdaptiveConcurrencyLimiter limiter, MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.rejectedCounter = Counter.builder("bookstore.catalog.client.concurrency.rejections")
+                .description("Catalog calls rejected because the adaptive concurrency limit was reached")
+                .register(meterRegistry);
+        Gauge.builder("bookstore.catalog.client.concurrency.limit", limiter::getLimit)
+                .description("Current adaptive concurrency limit for catalog calls")
+                .register(meterRegistry);
+        Gauge.builder("bookstore.catalog.client.concurrency.in-flight", limiter::getInFlight)
+                .description("Catalog calls currently in flight")
+                .register(meterRegistry);
+        TimeGauge.builder("bookstore.catalog.client.rtt", limiter, TimeUnit.NANOSECONDS, l -> l.getLastRttNanos())
+                .tag("window", "last")
+                .description("Round trip time the concurrency limit is adjusted against")
+                .register(meterRegistry);
+        TimeGauge.builder("bookstore.catalog.client.rtt", limiter, TimeUnit.NANOSECONDS, l -> l.getLongRttNanos())
+                .tag("window", "long")
+                .description("Round trip time the concurrency limit is adjusted against")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        if (!limiter.tryAcquire()) {
+            rejectedCounter.increment();
+            throw new CatalogServiceSaturatedException(limiter.getLimit());
+        }
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            dropped = isOverloaded(response);
+            return response;
+        } finally {
+            // an interrupted exchange was cancelled here, e.g. the losing request of a hedge, not failed by catalog
+            if (dropped && Thread.currentThread().isInterrupted()) {
+                limiter.cancel();
+            } else {
+                limiter.release(System.nanoTime() - start, dropped);
+            }
+        }
+    }
+
+    private static boolean isOverloaded(ClientHttpResponse response) throws IOException {
+        return response.getStatusCode().isSameCodeAs(HttpStatus.SERVICE_UNAVAILABLE)
+                || response.getStatusCode().isSameCodeAs(HttpStatus.GATEWAY_TIMEOUT)
+                || response.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
+    }
+}
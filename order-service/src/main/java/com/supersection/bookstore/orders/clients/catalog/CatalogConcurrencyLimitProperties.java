@@ -0,0 +1,11 @@
+package com.supersection.bookstore.orders.clients.catalog;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "orders.catalog-concurrency-limit")
+record CatalogConcurrencyLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10") int initialLimit,
+        @DefaultValue("2") int minLimit,
+        @DefaultValue("20") int maxLimit) {}
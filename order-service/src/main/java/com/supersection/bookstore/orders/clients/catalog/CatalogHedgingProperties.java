@@ -0,0 +1,13 @@
+package com.supersection.bookstore.orders.clients.catalog;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "orders.catalog-hedging")
+record CatalogHedgingProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("0.95") double delayPercentile,
+        @DefaultValue("10ms") Duration minDelay,
+        @DefaultValue("500ms") Duration maxDelay,
+        @DefaultValue("5") int budgetPercent) {}
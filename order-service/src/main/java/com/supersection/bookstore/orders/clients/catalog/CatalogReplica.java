@@ -0,0 +1,47 @@
+package com.supersection.bookstore.orders.clients.catalog;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+// In-memory copy of the catalog prices, kept current from catalog-service's changes feed.
+// Each instance holds its own copy, so the sync job is not guarded by ShedLock.
+@Component
+public class CatalogReplica {
+    private static final Logger log = LoggerFactory.getLogger(CatalogReplica.class);
+
+    private final ProductServiceClient client;
+    private final Map<String, BigDecimal> prices = new ConcurrentHashMap<>();
+    private volatile long version;
+
+    CatalogReplica(ProductServiceClient client, MeterRegistry meterRegistry) {
+        this.client = client;
+        Gauge.builder("bookstore.catalog.replica.size", prices, Map::size)
+                .description("Number of products held in the local catalog replica")
+                .register(meterRegistry);
+    }
+
+    public Optional<BigDecimal> findPrice(String code) {
+        return Optional.ofNullable(prices.get(code));
+    }
+
+    // The first sync pages through the whole catalog from version 0, later ones only fetch what changed.
+    public synchronized void sync() {
+        long from = version;
+        ProductChanges changes;
+        do {
+            changes = client.getProductChanges(version);
+            changes.products().forEach(product -> prices.put(product.code(), product.price()));
+            version = changes.version();
+        } while (changes.hasMore());
+        if (version != from) {
+            log.info("Catalog replica synced from version {} to {}, {} products", from, version, prices.size());
+        }
+    }
+}
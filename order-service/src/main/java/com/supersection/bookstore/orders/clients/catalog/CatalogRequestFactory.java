@@ -0,0 +1,66 @@
+package com.supersection.bookstore.orders.clients.catalog;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+// Owns the HttpClient behind the catalog RestClient. Pooled keep-alive sockets would abort a CRaC checkpoint,
+// so the client is closed when the context stops for a checkpoint and rebuilt when it starts again after restore.
+class CatalogRequestFactory implements ClientHttpRequestFactory, SmartLifecycle {
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration READ_TIMEOUT = Duration.ofSeconds(5);
+
+    private volatile HttpClient httpClient;
+    private volatile ClientHttpRequestFactory delegate;
+
+    CatalogRequestFactory() {
+        open();
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        return delegate.createRequest(uri, httpMethod);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (httpClient == null) {
+            open();
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (httpClient != null) {
+            httpClient.close();
+            httpClient = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return httpClient != null;
+    }
+
+    // stopped after the web server and the scheduler, started again before them
+    @Override
+    public int getPhase() {
+        return DEFAULT_PHASE - 4096;
+    }
+
+    private void open() {
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(CONNECT_TIMEOUT)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(READ_TIMEOUT);
+        delegate = requestFactory;
+    }
+}
@@ -0,0 +1,164 @@
+package com.supersection.bookstore.orders.clients.catalog;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.client.RestClientException;
+
+// Hedges idempotent catalog lookups: when the first request has not answered within the configured percentile of
+// recent latencies, an identical request is sent and whichever succeeds first wins; the other one is interrupted.
+// Hedges are paid for from a budget that every lookup tops up by budgetPercent of one hedge.
+// Latencies are measured from the start of the lookup, and a cancelled loser contributes the time it had run,
+// so slow requests keep the hedge delay up even though they never answer.
+class CatalogRequestHedger {
+    private static final int WINDOW_SIZE = 1000;
+    private static final int RECOMPUTE_EVERY = 100;
+    private static final long HEDGE_COST = 100;
+    private static final long MAX_BUDGET = 10 * HEDGE_COST;
+
+    private final CatalogHedgingProperties properties;
+    private final AsyncTaskExecutor executor;
+    private final long[] latencies = new long[WINDOW_SIZE];
+    private final AtomicLong budget = new AtomicLong();
+    private final Counter requestCounter;
+    private final Counter hedgeCounter;
+    private final Counter winCounter;
+    private final Counter budgetExhaustedCounter;
+    private long recorded;
+    private volatile long delayNanos;
+
+    CatalogRequestHedger(CatalogHedgingProperties properties, AsyncTaskExecutor executor, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.executor = executor;
+        // until enough latencies are known, only hedge requests that are clearly slow
+        this.delayNanos = properties.maxDelay().toNanos();
+        this.requestCounter = hedgingCounter(meterRegistry, "requests", "Catalog lookups eligible for hedging");
+        this.hedgeCounter = hedgingCounter(meterRegistry, "hedges", "Hedged catalog requests sent");
+        this.winCounter = hedgingCounter(meterRegistry, "wins", "Hedged catalog requests that answered first");
+        this.budgetExhaustedCounter =
+                hedgingCounter(meterRegistry, "budget-exhausted", "Hedges skipped because the budget was spent");
+        TimeGauge.builder("bookstore.catalog.client.hedging.delay", this, TimeUnit.NANOSECONDS, h -> h.delayNanos)
+                .description("Time a catalog lookup may take before it is hedged")
+                .register(meterRegistry);
+    }
+
+    private static Counter hedgingCounter(MeterRegistry meterRegistry, String name, String description) {
+        return Counter.builder("bookstore.catalog.client.hedging." + name)
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    <T> T execute(Supplier<T> call) {
+        if (!properties.enabled()) {
+            return call.get();
+        }
+        requestCounter.increment();
+        long lookupStart = System.nanoTime();
+        budget.accumulateAndGet(properties.budgetPercent(), (current, added) -> Math.min(MAX_BUDGET, current + added));
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(1);
+        AtomicBoolean primarySampled = new AtomicBoolean();
+        AtomicBoolean hedgeSampled = new AtomicBoolean();
+        Future<?> primary = submit(call, result, pending, false, lookupStart, primarySampled);
+        Future<?> hedge = null;
+        try {
+            try {
+                return result.get(delayNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (!tryConsumeBudget()) {
+                    budgetExhaustedCounter.increment();
+                    return result.get();
+                }
+            }
+            pending.incrementAndGet();
+            if (!result.isDone()) {
+                hedgeCounter.increment();
+                hedge = submit(call, result, pending, true, lookupStart, hedgeSampled);
+            }
+            return result.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RestClientException("catalog-service request failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RestClientException("Interrupted while waiting for catalog-service", e);
+        } finally {
+            cancel(primary, primarySampled, lookupStart);
+            if (hedge != null) {
+                cancel(hedge, hedgeSampled, lookupStart);
+            }
+        }
+    }
+
+    private <T> Future<?> submit(
+            Supplier<T> call,
+            CompletableFuture<T> result,
+            AtomicInteger pending,
+            boolean hedge,
+            long lookupStart,
+            AtomicBoolean sampled) {
+        return executor.submit(() -> {
+            try {
+                T value = call.get();
+                if (sampled.compareAndSet(false, true)) {
+                    record(System.nanoTime() - lookupStart);
+                }
+                if (result.complete(value) && hedge) {
+                    winCounter.increment();
+                }
+            } catch (RuntimeException e) {
+                sampled.set(true);
+                // a failure only counts once no other request can still succeed
+                if (pending.decrementAndGet() == 0) {
+                    result.completeExceptionally(e);
+                }
+            }
+        });
+    }
+
+    // whichever comes first, the request finishing or this cancellation, takes the latency sample
+    private void cancel(Future<?> request, AtomicBoolean sampled, long lookupStart) {
+        if (sampled.compareAndSet(false, true)) {
+            record(System.nanoTime() - lookupStart);
+        }
+        request.cancel(true);
+    }
+
+    private boolean tryConsumeBudget() {
+        while (true) {
+            long current = budget.get();
+            if (current < HEDGE_COST) {
+                return false;
+            }
+            if (budget.compareAndSet(current, current - HEDGE_COST)) {
+                return true;
+            }
+        }
+    }
+
+    private synchronized void record(long latencyNanos) {
+        latencies[(int) (recorded++ % WINDOW_SIZE)] = latencyNanos;
+        if (recorded % RECOMPUTE_EVERY == 0) {
+            long[] window = Arrays.copyOf(latencies, (int) Math.min(recorded, WINDOW_SIZE));
+            Arrays.sort(window);
+            long percentile = window[(int) Math.ceil(properties.delayPercentile() * window.length) - 1];
+            delayNanos = Math.clamp(
+                    percentile,
+                    properties.minDelay().toNanos(),
+                    properties.maxDelay().toNanos());
+        }
+    }
+}
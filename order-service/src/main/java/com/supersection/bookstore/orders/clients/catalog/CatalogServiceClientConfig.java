@@ -1,27 +1,52 @@
 package com.supersection.bookstore.orders.clients.catalog;
 
 import com.supersection.bookstore.orders.ApplicationProperties;
-import java.time.Duration;
-import org.springframework.boot.http.client.ClientHttpRequestFactoryBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
 import org.springframework.web.client.RestClient;
 
 @Configuration
+@EnableConfigurationProperties({CatalogConcurrencyLimitProperties.class, CatalogHedgingProperties.class})
 class CatalogServiceClientConfig {
 
     @Bean
-    RestClient restClient(ApplicationProperties properties) {
-        ClientHttpRequestFactory requestFactory = ClientHttpRequestFactoryBuilder.simple()
-                .withCustomizer(customizer -> {
-                    customizer.setConnectTimeout(Duration.ofSeconds(5));
-                    customizer.setReadTimeout(Duration.ofSeconds(5));
-                })
-                .build();
+    CatalogRequestFactory catalogRequestFactory() {
+        return new CatalogRequestFactory();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "orders.catalog-concurrency-limit", name = "enabled", matchIfMissing = true)
+    CatalogConcurrencyLimitInterceptor catalogConcurrencyLimitInterceptor(
+            CatalogConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        var limiter =
+                new AdaptiveConcurrencyLimiter(properties.initialLimit(), properties.minLimit(), properties.maxLimit());
+        return new CatalogConcurrencyLimitInterceptor(limiter, meterRegistry);
+    }
 
-        return RestClient.builder()
-                .baseUrl(properties.catalogServiceUrl())
+    // the decorator carries the current observation over, so hedged lookups stay in the caller's trace
+    @Bean
+    CatalogRequestHedger catalogRequestHedger(CatalogHedgingProperties properties, MeterRegistry meterRegistry) {
+        var executor = new SimpleAsyncTaskExecutor("catalog-hedging-");
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        return new CatalogRequestHedger(properties, executor, meterRegistry);
+    }
+
+    // the auto-configured builder carries the observation customizer, so catalog calls join the current trace
+    @Bean
+    RestClient restClient(
+            RestClient.Builder builder,
+            ApplicationProperties properties,
+            CatalogRequestFactory requestFactory,
+            ObjectProvider<CatalogConcurrencyLimitInterceptor> concurrencyLimitInterceptor) {
+        concurrencyLimitInterceptor.ifAvailable(builder::requestInterceptor);
+        return builder.baseUrl(properties.catalogServiceUrl())
                 .requestFactory(requestFactory)
                 .build();
     }
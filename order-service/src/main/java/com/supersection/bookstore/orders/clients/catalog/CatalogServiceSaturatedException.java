@@ -0,0 +1,10 @@
+package com.supersection.bookstore.orders.clients.catalog;
+
+import org.springframework.web.client.RestClientException;
+
+public class CatalogServiceSaturatedException extends RestClientException {
+
+    public CatalogServiceSaturatedException(int limit) {
+        super("catalog-service concurrency limit of " + limit + " reached");
+    }
+}
@@ -1,5 +1,6 @@
 package com.supersection.bookstore.orders.clients.catalog;
 
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import java.util.Optional;
@@ -13,20 +14,57 @@ public class ProductServiceClient {
     private static final Logger log = LoggerFactory.getLogger(ProductServiceClient.class);
 
     private final RestClient restClient;
+    private final CatalogRequestHedger hedger;
 
-    ProductServiceClient(RestClient restClient) {
+    ProductServiceClient(RestClient restClient, CatalogRequestHedger hedger) {
         this.restClient = restClient;
+        this.hedger = hedger;
     }
 
     @CircuitBreaker(name = "catalog-service")
     @Retry(name = "catalog-service", fallbackMethod = "getProductByCodeFallback")
+    @Bulkhead(name = "catalog-service")
     public Optional<Product> getProductByCode(String code) {
         log.info("Fetching product with code: {}", code);
-        var product =
-                restClient.get().uri("/api/products/{code}", code).retrieve().body(Product.class);
+        // a lookup is a plain GET, so a slow one can be hedged; retry and the circuit breaker see one call
+        var product = hedger.execute(() ->
+                restClient.get().uri("/api/products/{code}", code).retrieve().body(Product.class));
         return Optional.ofNullable(product);
     }
 
+    // no retry or fallback here: a failed sync is simply repeated on the next run of CatalogSyncJob
+    @Bulkhead(name = "catalog-service")
+    public ProductChanges getProductChanges(long since) {
+        return restClient
+                .get()
+                .uri("/api/products/changes?since={since}", since)
+                .retrieve()
+                .body(ProductChanges.class);
+    }
+
+    // not retried: a reservation that timed out may still have been applied
+    @CircuitBreaker(name = "catalog-service")
+    @Bulkhead(name = "catalog-service")
+    public StockReservationResult reserveStock(StockReservationRequest request) {
+        return restClient
+                .post()
+                .uri("/api/products/reservations")
+                .body(request)
+                .retrieve()
+                .body(StockReservationResult.class);
+    }
+
+    // releasing is idempotent on the catalog side, so it is safe to retry
+    @Retry(name = "catalog-service")
+    @Bulkhead(name = "catalog-service")
+    public void releaseStock(String orderNumber) {
+        restClient
+                .delete()
+                .uri("/api/products/reservations/{orderNumber}", orderNumber)
+                .retrieve()
+                .toBodilessEntity();
+    }
+
     Optional<Product> getProductByCodeFallback(String code, Throwable t) {
         log.info("catalog-service get product by code fallback: code:{}, Error: {} ", code, t.getMessage());
         return Optional.empty();
@@ -0,0 +1,8 @@
+package com.supersection.bookstore.orders.clients.catalog;
+
+import java.util.List;
+
+public record StockReservationRequest(String orderNumber, List<Item> items) {
+
+    public record Item(String code, int quantity) {}
+}
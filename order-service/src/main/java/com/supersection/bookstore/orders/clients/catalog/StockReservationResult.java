@@ -0,0 +1,5 @@
+package com.supersection.bookstore.orders.clients.catalog;
+
+import java.util.List;
+
+public record StockReservationResult(boolean reserved, List<String> unavailable) {}
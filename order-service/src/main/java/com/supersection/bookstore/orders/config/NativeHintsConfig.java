@@ -0,0 +1,59 @@
+package com.supersection.bookstore.orders.config;
+
+import com.supersection.bookstore.orders.clients.catalog.Product;
+import com.supersection.bookstore.orders.clients.catalog.ProductChanges;
+import com.supersection.bookstore.orders.clients.catalog.ProductServiceClient;
+import com.supersection.bookstore.orders.clients.catalog.StockReservationRequest;
+import com.supersection.bookstore.orders.clients.catalog.StockReservationResult;
+import com.supersection.bookstore.orders.domain.models.OrderCancelledEvent;
+import com.supersection.bookstore.orders.domain.models.OrderCreatedEvent;
+import com.supersection.bookstore.orders.domain.models.OrderDeliveredEvent;
+import com.supersection.bookstore.orders.domain.models.OrderErrorEvent;
+import com.supersection.bookstore.orders.domain.models.OrderSummary;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.io.DefaultResourceLoader;
+
+// Reachability metadata for the native image that Spring AOT cannot infer from the bean definitions:
+// payloads serialized by hand, the catalog response, JPQL constructor projections and reflective lookups.
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeHintsConfig.OrderServiceRuntimeHints.class)
+@RegisterReflectionForBinding({
+    OrderCreatedEvent.class,
+    OrderCancelledEvent.class,
+    OrderDeliveredEvent.class,
+    OrderErrorEvent.class,
+    Product.class,
+    ProductChanges.class,
+    StockReservationRequest.class,
+    StockReservationResult.class
+})
+class NativeHintsConfig {
+
+    static class OrderServiceRuntimeHints implements RuntimeHintsRegistrar {
+        private static final String BASE_PACKAGE = "com.supersection.bookstore.orders";
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // select new ...OrderSummary(...) is instantiated by Hibernate through its constructor
+            hints.reflection().registerType(OrderSummary.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            // resilience4j resolves fallbackMethod by name
+            hints.reflection().registerType(ProductServiceClient.class, MemberCategory.INVOKE_DECLARED_METHODS);
+            // ShedLock reads @SchedulerLock from the job methods at runtime; scanned so a new job can't be missed
+            var scanner = new ClassPathScanningCandidateComponentProvider(false);
+            scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+            scanner.addIncludeFilter((reader, readerFactory) ->
+                    reader.getAnnotationMetadata().hasAnnotatedMethods(SchedulerLock.class.getName()));
+            scanner.findCandidateComponents(BASE_PACKAGE).stream()
+                    .map(job -> TypeReference.of(job.getBeanClassName()))
+                    .forEach(job -> hints.reflection().registerType(job, MemberCategory.INVOKE_DECLARED_METHODS));
+        }
+    }
+}
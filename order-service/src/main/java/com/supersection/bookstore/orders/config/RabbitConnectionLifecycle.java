@@ -0,0 +1,39 @@
+package com.supersection.bookstore.orders.config;
+
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+// RabbitTemplate keeps its connection open for the life of the context, which would abort a CRaC checkpoint.
+// Dropping it when the context stops is enough: the next publish after restore opens a fresh connection.
+@Component
+class RabbitConnectionLifecycle implements SmartLifecycle {
+    private final CachingConnectionFactory connectionFactory;
+    private volatile boolean running;
+
+    RabbitConnectionLifecycle(CachingConnectionFactory connectionFactory) {
+        this.connectionFactory = connectionFactory;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        connectionFactory.resetConnection();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // stopped after the web server and the scheduler, so no publish is in flight
+    @Override
+    public int getPhase() {
+        return DEFAULT_PHASE - 4096;
+    }
+}
@@ -71,6 +71,7 @@ class RabbitMQConfig {
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, ObjectMapper objectMapper) {
         final var rabbitTemplate = new RabbitTemplate(connectionFactory);
         rabbitTemplate.setMessageConverter(jacksonConverter(objectMapper));
+        rabbitTemplate.setObservationEnabled(true);
         return rabbitTemplate;
     }
 
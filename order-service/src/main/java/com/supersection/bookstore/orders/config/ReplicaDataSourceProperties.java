@@ -0,0 +1,8 @@
+package com.supersection.bookstore.orders.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "orders.replica-datasource")
+record ReplicaDataSourceProperties(
+        String url, String username, String password, @DefaultValue("10") int maximumPoolSize) {}
@@ -0,0 +1,180 @@
+package com.supersection.bookstore.orders.domain;
+
+import com.supersection.bookstore.orders.domain.dtos.OrderDTO;
+import com.supersection.bookstore.orders.domain.models.Address;
+import com.supersection.bookstore.orders.domain.models.Customer;
+import com.supersection.bookstore.orders.domain.models.OrderItem;
+import com.supersection.bookstore.orders.domain.models.OrderStatus;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+@Repository
+class OrderArchiveRepository {
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    // orders with events still waiting in the outbox are skipped, order_events references orders
+    private static final String SELECT_ARCHIVABLE_ORDERS =
+            """
+            select o.id, o.created_at
+            from orders o
+            where o.status in ('DELIVERED', 'CANCELLED')
+              and o.created_at < ?
+              and not exists (select 1 from order_events e where e.order_number = o.order_number)
+            order by o.id
+            limit ?
+            for update skip locked
+            """;
+    private static final String CREATE_PARTITION =
+            "create table if not exists %s_p%s partition of %s for values from ('%s') to ('%s')";
+    private static final String ARCHIVE_ORDER_ITEMS =
+            """
+            insert into order_items_archive (id, code, name, price, quantity, order_id, order_created_at)
+            select i.id, i.code, i.name, i.price, i.quantity, i.order_id, o.created_at
+            from order_items i join orders o on o.id = i.order_id
+            where o.id = any(?)
+            """;
+    private static final String ARCHIVE_ORDERS =
+            """
+            insert into orders_archive (id, order_number, username, customer_name, customer_email, customer_phone,
+                                        delivery_address_line1, delivery_address_line2, delivery_address_city,
+                                        delivery_address_state, delivery_address_zip_code, delivery_address_country,
+                                        status, comments, total_amount, item_count, created_at, updated_at,
+                                        archived_at)
+            select id, order_number, username, customer_name, customer_email, customer_phone,
+                   delivery_address_line1, delivery_address_line2, delivery_address_city,
+                   delivery_address_state, delivery_address_zip_code, delivery_address_country,
+                   status, comments, total_amount, item_count, created_at, updated_at, now()
+            from orders
+            where id = any(?)
+            """;
+    private static final String DELETE_ORDER_ITEMS = "delete from order_items where order_id = any(?)";
+    private static final String DELETE_IDEMPOTENCY_KEYS =
+            """
+            delete from order_idempotency_keys
+            where order_number in (select order_number from orders where id = any(?))
+            """;
+    private static final String DELETE_ORDERS = "delete from orders where id = any(?)";
+
+    private static final String SELECT_ARCHIVED_ORDER =
+            """
+            select * from orders_archive
+            where username = ? and order_number = ?
+            """;
+    private static final String SELECT_ARCHIVED_ORDER_ITEMS =
+            """
+            select code, name, price, quantity from order_items_archive
+            where order_id = ? and order_created_at = ?
+            """;
+
+    private static final RowMapper<ArchivedOrder> ARCHIVED_ORDER_ROW_MAPPER = (rs, rowNum) -> new ArchivedOrder(
+            rs.getLong("id"),
+            rs.getString("order_number"),
+            rs.getString("username"),
+            new Customer(rs.getString("customer_name"), rs.getString("customer_email"), rs.getString("customer_phone")),
+            new Address(
+                    rs.getString("delivery_address_line1"),
+                    rs.getString("delivery_address_line2"),
+                    rs.getString("delivery_address_city"),
+                    rs.getString("delivery_address_state"),
+                    rs.getString("delivery_address_zip_code"),
+                    rs.getString("delivery_address_country")),
+            OrderStatus.valueOf(rs.getString("status")),
+            rs.getString("comments"),
+            rs.getBigDecimal("total_amount"),
+            rs.getInt("item_count"),
+            rs.getObject("created_at", LocalDateTime.class));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    OrderArchiveRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Must run inside a transaction: the selected orders stay row-locked until they are moved.
+    int archiveBatch(LocalDateTime createdBefore, int batchSize) {
+        List<ArchivableOrder> orders = jdbcTemplate.query(
+                SELECT_ARCHIVABLE_ORDERS,
+                (rs, rowNum) -> new ArchivableOrder(rs.getLong("id"), rs.getObject("created_at", LocalDateTime.class)),
+                Timestamp.valueOf(createdBefore),
+                batchSize);
+        if (orders.isEmpty()) {
+            return 0;
+        }
+
+        Set<YearMonth> months = new TreeSet<>();
+        orders.forEach(order -> months.add(YearMonth.from(order.createdAt())));
+        months.forEach(this::createPartitions);
+
+        List<Long> ids = orders.stream().map(ArchivableOrder::id).toList();
+        updateByIds(ARCHIVE_ORDER_ITEMS, ids);
+        updateByIds(ARCHIVE_ORDERS, ids);
+        updateByIds(DELETE_ORDER_ITEMS, ids);
+        updateByIds(DELETE_IDEMPOTENCY_KEYS, ids);
+        updateByIds(DELETE_ORDERS, ids);
+        return ids.size();
+    }
+
+    Optional<OrderDTO> findUserOrder(String userName, String orderNumber) {
+        return jdbcTemplate.query(SELECT_ARCHIVED_ORDER, ARCHIVED_ORDER_ROW_MAPPER, userName, orderNumber).stream()
+                .findFirst()
+                .map(order -> new OrderDTO(
+                        order.orderNumber(),
+                        order.user(),
+                        findItems(order.id(), order.createdAt()),
+                        order.customer(),
+                        order.deliveryAddress(),
+                        order.status(),
+                        order.comments(),
+                        order.totalAmount(),
+                        order.itemCount(),
+                        order.createdAt()));
+    }
+
+    private Set<OrderItem> findItems(Long orderId, LocalDateTime orderCreatedAt) {
+        // order_created_at is the partition key, so only the order's own partition is scanned
+        return new HashSet<>(jdbcTemplate.query(
+                SELECT_ARCHIVED_ORDER_ITEMS,
+                (rs, rowNum) -> new OrderItem(
+                        rs.getString("code"), rs.getString("name"), rs.getBigDecimal("price"), rs.getInt("quantity")),
+                orderId,
+                Timestamp.valueOf(orderCreatedAt)));
+    }
+
+    private void createPartitions(YearMonth month) {
+        String suffix = month.format(PARTITION_SUFFIX);
+        String from = month.atDay(1).toString();
+        String to = month.plusMonths(1).atDay(1).toString();
+        jdbcTemplate.execute(CREATE_PARTITION.formatted("orders_archive", suffix, "orders_archive", from, to));
+        jdbcTemplate.execute(
+                CREATE_PARTITION.formatted("order_items_archive", suffix, "order_items_archive", from, to));
+    }
+
+    private void updateByIds(String sql, List<Long> ids) {
+        jdbcTemplate.update(sql, ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids.toArray())));
+    }
+
+    private record ArchivableOrder(Long id, LocalDateTime createdAt) {}
+
+    private record ArchivedOrder(
+            Long id,
+            String orderNumber,
+            String user,
+            Customer customer,
+            Address deliveryAddress,
+            OrderStatus status,
+            String comments,
+            BigDecimal totalAmount,
+            int itemCount,
+            LocalDateTime createdAt) {}
+}
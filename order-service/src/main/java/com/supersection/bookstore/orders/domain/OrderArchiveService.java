@@ -0,0 +1,41 @@
+package com.supersection.bookstore.orders.domain;
+
+import com.supersection.bookstore.orders.ApplicationProperties;
+import java.time.LocalDateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class OrderArchiveService {
+    private static final Logger log = LoggerFactory.getLogger(OrderArchiveService.class);
+
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationProperties properties;
+
+    OrderArchiveService(
+            OrderArchiveRepository orderArchiveRepository,
+            TransactionTemplate transactionTemplate,
+            ApplicationProperties properties) {
+        this.orderArchiveRepository = orderArchiveRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+    }
+
+    // Each batch commits on its own so row locks on orders are held only briefly.
+    public int archiveOrders() {
+        LocalDateTime createdBefore = LocalDateTime.now().minusDays(properties.archiveAfterDays());
+        int batchSize = properties.archiveBatchSize();
+        int total = 0;
+        int archived;
+        do {
+            archived = transactionTemplate.execute(
+                    status -> orderArchiveRepository.archiveBatch(createdBefore, batchSize));
+            total += archived;
+        } while (archived == batchSize);
+        log.info("Archived {} Orders created before {}", total, createdBefore);
+        return total;
+    }
+}
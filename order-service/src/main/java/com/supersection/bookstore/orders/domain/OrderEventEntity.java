@@ -35,7 +35,13 @@ class OrderEventEntity {
     private OrderEventType eventType;
 
     @Column(nullable = false)
-    private String payload;
+    private byte[] payload;
+
+    @Column(name = "content_type", nullable = false)
+    private String contentType;
+
+    @Column(name = "trace_parent")
+    private String traceParent;
 
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
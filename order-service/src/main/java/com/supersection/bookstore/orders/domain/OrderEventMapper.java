@@ -15,6 +15,8 @@ class OrderEventMapper {
                 getOrderItems(order),
                 order.getCustomer(),
                 order.getDeliveryAddress(),
+                order.getTotalAmount(),
+                order.getItemCount(),
                 LocalDateTime.now());
     }
 
@@ -0,0 +1,49 @@
+package com.supersection.bookstore.orders.domain;
+
+import com.supersection.bookstore.orders.ApplicationProperties;
+import com.supersection.bookstore.orders.domain.models.OrderEventType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+@Component
+class OrderEventOutboxReader {
+    private static final String SELECT_PENDING_EVENTS =
+            """
+            select id, event_id, event_type, payload, content_type, created_at, trace_parent
+            from order_events
+            order by created_at, id
+            """;
+    private static final String DELETE_EVENTS = "delete from order_events where id = any(?)";
+
+    private static final RowMapper<PendingOrderEvent> ROW_MAPPER = (rs, rowNum) -> new PendingOrderEvent(
+            rs.getLong("id"),
+            rs.getString("event_id"),
+            OrderEventType.valueOf(rs.getString("event_type")),
+            rs.getBytes("payload"),
+            rs.getString("content_type"),
+            rs.getObject("created_at", LocalDateTime.class),
+            rs.getString("trace_parent"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    OrderEventOutboxReader(DataSource dataSource, ApplicationProperties properties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(properties.outboxFetchSize());
+    }
+
+    // The Postgres driver only honours the fetch size (server-side cursor) when auto-commit is off,
+    // so this must run inside a transaction and the returned stream must be closed.
+    Stream<PendingOrderEvent> streamPendingEvents() {
+        return jdbcTemplate.queryForStream(SELECT_PENDING_EVENTS, ROW_MAPPER);
+    }
+
+    void delete(List<Long> ids) {
+        jdbcTemplate.update(
+                DELETE_EVENTS, ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids.toArray())));
+    }
+}
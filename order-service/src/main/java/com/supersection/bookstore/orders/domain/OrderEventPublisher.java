@@ -1,12 +1,20 @@
 package com.supersection.bookstore.orders.domain;
 
 import com.supersection.bookstore.orders.ApplicationProperties;
-import com.supersection.bookstore.orders.domain.models.OrderCancelledEvent;
-import com.supersection.bookstore.orders.domain.models.OrderCreatedEvent;
-import com.supersection.bookstore.orders.domain.models.OrderDeliveredEvent;
-import com.supersection.bookstore.orders.domain.models.OrderErrorEvent;
+import com.supersection.bookstore.orders.domain.models.OrderEventType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Component;
 
@@ -15,34 +23,46 @@ class OrderEventPublisher {
     private static final Logger log = LoggerFactory.getLogger(OrderEventPublisher.class);
 
     private final RabbitTemplate rabbitTemplate;
-    private final ApplicationProperties properties;
+    private final String exchange;
+    private final Map<OrderEventType, String> routingKeys = new EnumMap<>(OrderEventType.class);
+    private final Map<OrderEventType, Timer> publishTimers = new EnumMap<>(OrderEventType.class);
 
-    OrderEventPublisher(RabbitTemplate rabbitTemplate, ApplicationProperties properties) {
+    OrderEventPublisher(RabbitTemplate rabbitTemplate, ApplicationProperties properties, MeterRegistry meterRegistry) {
         this.rabbitTemplate = rabbitTemplate;
-        this.properties = properties;
-    }
-
-    public void publish(OrderCreatedEvent event) {
-        this.send(properties.newOrdersQueue(), event);
-    }
-
-    public void publish(OrderDeliveredEvent event) {
-        this.send(properties.deliveredOrdersQueue(), event);
-    }
-
-    public void publish(OrderCancelledEvent event) {
-        this.send(properties.cancelledOrdersQueue(), event);
-    }
-
-    public void publish(OrderErrorEvent event) {
-        this.send(properties.errorOrdersQueue(), event);
+        this.exchange = properties.orderEventsExchange();
+        this.routingKeys.put(OrderEventType.ORDER_CREATED, properties.newOrdersQueue());
+        this.routingKeys.put(OrderEventType.ORDER_DELIVERED, properties.deliveredOrdersQueue());
+        this.routingKeys.put(OrderEventType.ORDER_CANCELLED, properties.cancelledOrdersQueue());
+        this.routingKeys.put(OrderEventType.ORDER_PROCESSING_FAILED, properties.errorOrdersQueue());
+        for (OrderEventType eventType : OrderEventType.values()) {
+            this.publishTimers.put(
+                    eventType,
+                    Timer.builder("bookstore.orders.outbox.publish")
+                            .description("Time spent handing an order event to the broker")
+                            .tag("event_type", eventType.name())
+                            .register(meterRegistry));
+        }
     }
 
-    private void send(String routingKey, Object payload) {
-        try {
-            log.info("Publishing event to exchange: {}, routingKey: {}", properties.orderEventsExchange(), routingKey);
-            rabbitTemplate.convertAndSend(properties.orderEventsExchange(), routingKey, payload);
-            log.info("Successfully published event to routingKey: {}", routingKey);
+    public void publish(
+            OrderEventType eventType, String eventId, byte[] payload, String contentType, LocalDateTime createdAt) {
+        String routingKey = routingKeys.get(eventType);
+        MessageProperties messageProperties = new MessageProperties();
+        messageProperties.setContentType(contentType);
+        messageProperties.setContentLength(payload.length);
+        // eventId travels as the AMQP message-id and correlation-id so consumer-side stages can be joined to it
+        messageProperties.setMessageId(eventId);
+        messageProperties.setCorrelationId(eventId);
+        messageProperties.setTimestamp(
+                Date.from(createdAt.atZone(ZoneId.systemDefault()).toInstant()));
+        messageProperties.setType(eventType.name());
+        messageProperties.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        try (var ignored = MDC.putCloseable("eventId", eventId)) {
+            log.debug("Publishing event to exchange: {}, routingKey: {}", exchange, routingKey);
+            Timer.Sample sample = Timer.start();
+            rabbitTemplate.send(exchange, routingKey, new Message(payload, messageProperties));
+            sample.stop(publishTimers.get(eventType));
+            log.debug("Successfully published event to routingKey: {}", routingKey);
         } catch (Exception e) {
             log.error("Failed to publish event to routingKey: {}, error: {}", routingKey, e.getMessage(), e);
             throw e;
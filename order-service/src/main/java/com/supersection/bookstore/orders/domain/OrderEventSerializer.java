@@ -0,0 +1,37 @@
+package com.supersection.bookstore.orders.domain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.supersection.bookstore.orders.ApplicationProperties;
+import com.supersection.bookstore.orders.domain.models.EventPayloadFormat;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+@Component
+class OrderEventSerializer {
+
+    private final EventPayloadFormat format;
+    private final Map<EventPayloadFormat, ObjectMapper> mappers = new EnumMap<>(EventPayloadFormat.class);
+
+    OrderEventSerializer(ObjectMapper objectMapper, ApplicationProperties properties) {
+        this.format = properties.eventPayloadFormat();
+        this.mappers.put(EventPayloadFormat.JSON, objectMapper);
+        this.mappers.put(EventPayloadFormat.SMILE, objectMapper.copyWith(new SmileFactory()));
+        this.mappers.put(EventPayloadFormat.CBOR, objectMapper.copyWith(new CBORFactory()));
+    }
+
+    String contentType() {
+        return format.getContentType();
+    }
+
+    byte[] serialize(Object event) {
+        try {
+            return mappers.get(format).writeValueAsBytes(event);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
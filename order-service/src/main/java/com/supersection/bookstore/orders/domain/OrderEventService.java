@@ -1,17 +1,22 @@
 package com.supersection.bookstore.orders.domain;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.supersection.bookstore.orders.ApplicationProperties;
 import com.supersection.bookstore.orders.domain.models.OrderCancelledEvent;
 import com.supersection.bookstore.orders.domain.models.OrderCreatedEvent;
 import com.supersection.bookstore.orders.domain.models.OrderDeliveredEvent;
 import com.supersection.bookstore.orders.domain.models.OrderErrorEvent;
 import com.supersection.bookstore.orders.domain.models.OrderEventType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.transaction.Transactional;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -22,15 +27,29 @@ public class OrderEventService {
 
     private final OrderEventRepository orderEventRepository;
     private final OrderEventPublisher orderEventPublisher;
-    private final ObjectMapper objectMapper;
+    private final OrderEventSerializer orderEventSerializer;
+    private final OrderEventOutboxReader orderEventOutboxReader;
+    private final OrderEventTracing orderEventTracing;
+    private final ApplicationProperties properties;
+    private final Timer outboxWaitTimer;
 
     OrderEventService(
             OrderEventRepository orderEventRepository,
             OrderEventPublisher orderEventPublisher,
-            ObjectMapper objectMapper) {
+            OrderEventSerializer orderEventSerializer,
+            OrderEventOutboxReader orderEventOutboxReader,
+            OrderEventTracing orderEventTracing,
+            ApplicationProperties properties,
+            MeterRegistry meterRegistry) {
         this.orderEventRepository = orderEventRepository;
         this.orderEventPublisher = orderEventPublisher;
-        this.objectMapper = objectMapper;
+        this.orderEventSerializer = orderEventSerializer;
+        this.orderEventOutboxReader = orderEventOutboxReader;
+        this.orderEventTracing = orderEventTracing;
+        this.properties = properties;
+        this.outboxWaitTimer = Timer.builder("bookstore.orders.outbox.wait")
+                .description("Time an order event spent in the outbox before being published")
+                .register(meterRegistry);
     }
 
     void save(OrderCreatedEvent event) {
@@ -39,7 +58,7 @@ public class OrderEventService {
         orderEvent.setEventType(OrderEventType.ORDER_CREATED);
         orderEvent.setOrderNumber(event.orderNumber());
         orderEvent.setCreatedAt(event.createdAt());
-        orderEvent.setPayload(toJsonPayload(event));
+        setPayloadAndTraceParent(orderEvent, event);
         this.orderEventRepository.save(orderEvent);
     }
 
@@ -49,7 +68,7 @@ public class OrderEventService {
         orderEvent.setEventType(OrderEventType.ORDER_DELIVERED);
         orderEvent.setOrderNumber(event.orderNumber());
         orderEvent.setCreatedAt(event.createdAt());
-        orderEvent.setPayload(toJsonPayload(event));
+        setPayloadAndTraceParent(orderEvent, event);
         this.orderEventRepository.save(orderEvent);
     }
 
@@ -59,7 +78,7 @@ public class OrderEventService {
         orderEvent.setEventType(OrderEventType.ORDER_CANCELLED);
         orderEvent.setOrderNumber(event.orderNumber());
         orderEvent.setCreatedAt(event.createdAt());
-        orderEvent.setPayload(toJsonPayload(event));
+        setPayloadAndTraceParent(orderEvent, event);
         this.orderEventRepository.save(orderEvent);
     }
 
@@ -69,58 +88,44 @@ public class OrderEventService {
         orderEvent.setEventType(OrderEventType.ORDER_PROCESSING_FAILED);
         orderEvent.setOrderNumber(event.orderNumber());
         orderEvent.setCreatedAt(event.createdAt());
-        orderEvent.setPayload(toJsonPayload(event));
+        setPayloadAndTraceParent(orderEvent, event);
         this.orderEventRepository.save(orderEvent);
     }
 
     public void publishOrderEvents() {
-        Sort sort = Sort.by("createdAt").ascending();
-        List<OrderEventEntity> events = orderEventRepository.findAll(sort);
-        log.info("Found {} Order Events to be published", events.size());
-        for (OrderEventEntity event : events) {
-            this.publishEvent(event);
-            orderEventRepository.delete(event);
-        }
-    }
-
-    private void publishEvent(OrderEventEntity event) {
-        OrderEventType eventType = event.getEventType();
-        switch (eventType) {
-            case ORDER_CREATED -> {
-                OrderCreatedEvent orderCreatedEvent = fromJsonPayload(event.getPayload(), OrderCreatedEvent.class);
-                orderEventPublisher.publish(orderCreatedEvent);
-            }
-            case ORDER_DELIVERED -> {
-                OrderDeliveredEvent orderDeliveredEvent =
-                        fromJsonPayload(event.getPayload(), OrderDeliveredEvent.class);
-                orderEventPublisher.publish(orderDeliveredEvent);
-            }
-            case ORDER_CANCELLED -> {
-                OrderCancelledEvent orderCancelledEvent =
-                        fromJsonPayload(event.getPayload(), OrderCancelledEvent.class);
-                orderEventPublisher.publish(orderCancelledEvent);
+        int batchSize = properties.outboxFetchSize();
+        List<Long> publishedIds = new ArrayList<>(batchSize);
+        long published = 0;
+        try (Stream<PendingOrderEvent> events = orderEventOutboxReader.streamPendingEvents()) {
+            Iterator<PendingOrderEvent> iterator = events.iterator();
+            while (iterator.hasNext()) {
+                PendingOrderEvent event = iterator.next();
+                outboxWaitTimer.record(Duration.between(event.createdAt(), LocalDateTime.now()));
+                orderEventTracing.runInTraceOf(
+                        event,
+                        () -> orderEventPublisher.publish(
+                                event.eventType(),
+                                event.eventId(),
+                                event.payload(),
+                                event.contentType(),
+                                event.createdAt()));
+                publishedIds.add(event.id());
+                published++;
+                if (publishedIds.size() == batchSize) {
+                    orderEventOutboxReader.delete(publishedIds);
+                    publishedIds.clear();
+                }
             }
-            case ORDER_PROCESSING_FAILED -> {
-                OrderErrorEvent orderErrorEvent = fromJsonPayload(event.getPayload(), OrderErrorEvent.class);
-                orderEventPublisher.publish(orderErrorEvent);
-            }
-            default -> log.warn("Unsupported OrderEventType: {}", eventType);
         }
-    }
-
-    private String toJsonPayload(Object object) {
-        try {
-            return objectMapper.writeValueAsString(object);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
+        if (!publishedIds.isEmpty()) {
+            orderEventOutboxReader.delete(publishedIds);
         }
+        log.info("Published {} Order Events", published);
     }
 
-    private <T> T fromJsonPayload(String json, Class<T> type) {
-        try {
-            return objectMapper.readValue(json, type);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
-        }
+    private void setPayloadAndTraceParent(OrderEventEntity orderEvent, Object event) {
+        orderEvent.setPayload(orderEventSerializer.serialize(event));
+        orderEvent.setContentType(orderEventSerializer.contentType());
+        orderEvent.setTraceParent(orderEventTracing.currentTraceParent());
     }
 }
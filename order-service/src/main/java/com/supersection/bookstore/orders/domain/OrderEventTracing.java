@@ -0,0 +1,57 @@
+package com.supersection.bookstore.orders.domain;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+@Component
+class OrderEventTracing {
+    private static final String TRACE_PARENT = "traceparent";
+    private static final String RELAY_SPAN_NAME = "order-event outbox-relay";
+
+    private final Tracer tracer;
+    private final Propagator propagator;
+
+    OrderEventTracing(ObjectProvider<Tracer> tracer, ObjectProvider<Propagator> propagator) {
+        this.tracer = tracer.getIfAvailable(() -> Tracer.NOOP);
+        this.propagator = propagator.getIfAvailable(() -> Propagator.NOOP);
+    }
+
+    // W3C traceparent of the span that created the event, or null when nothing is being traced
+    String currentTraceParent() {
+        Span span = tracer.currentSpan();
+        if (span == null) {
+            return null;
+        }
+        Map<String, String> carrier = new HashMap<>();
+        propagator.inject(span.context(), carrier, Map::put);
+        return carrier.get(TRACE_PARENT);
+    }
+
+    // The outbox job runs on a scheduler thread with no trace, so the span that publishes an event
+    // is parented on the trace stored with the event row instead.
+    void runInTraceOf(PendingOrderEvent event, Runnable action) {
+        Span span = event.traceParent() == null
+                ? tracer.nextSpan()
+                        .name(RELAY_SPAN_NAME)
+                        .tag("event.id", event.eventId())
+                        .start()
+                : propagator
+                        .extract(Map.of(TRACE_PARENT, event.traceParent()), Map::get)
+                        .name(RELAY_SPAN_NAME)
+                        .tag("event.id", event.eventId())
+                        .start();
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            action.run();
+        } catch (RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
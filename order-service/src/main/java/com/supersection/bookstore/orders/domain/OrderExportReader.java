@@ -0,0 +1,123 @@
+package com.supersection.bookstore.orders.domain;
+
+import com.supersection.bookstore.orders.ApplicationProperties;
+import com.supersection.bookstore.orders.domain.dtos.OrderDTO;
+import com.supersection.bookstore.orders.domain.models.Address;
+import com.supersection.bookstore.orders.domain.models.Customer;
+import com.supersection.bookstore.orders.domain.models.OrderItem;
+import com.supersection.bookstore.orders.domain.models.OrderStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+@Component
+class OrderExportReader {
+    private static final String ORDER_ITEM_COLUMNS =
+            """
+            o.id, o.order_number, o.username, o.customer_name, o.customer_email, o.customer_phone,
+            o.delivery_address_line1, o.delivery_address_line2, o.delivery_address_city,
+            o.delivery_address_state, o.delivery_address_zip_code, o.delivery_address_country,
+            o.status, o.comments, o.total_amount, o.item_count, o.created_at,
+            i.code, i.name, i.price, i.quantity
+            """;
+    // live and archived orders, one row per item, sorted so that all rows of an order arrive together
+    private static final String SELECT_USER_ORDER_ITEMS =
+            """
+            select %1$s
+            from orders o join order_items i on i.order_id = o.id
+            where o.username = ?
+            union all
+            select %1$s
+            from orders_archive o
+            join order_items_archive i on i.order_id = o.id and i.order_created_at = o.created_at
+            where o.username = ?
+            order by created_at, id
+            """
+                    .formatted(ORDER_ITEM_COLUMNS);
+
+    private static final RowMapper<OrderItemRow> ROW_MAPPER = (rs, rowNum) -> new OrderItemRow(
+            rs.getLong("id"),
+            rs.getString("order_number"),
+            rs.getString("username"),
+            new Customer(rs.getString("customer_name"), rs.getString("customer_email"), rs.getString("customer_phone")),
+            new Address(
+                    rs.getString("delivery_address_line1"),
+                    rs.getString("delivery_address_line2"),
+                    rs.getString("delivery_address_city"),
+                    rs.getString("delivery_address_state"),
+                    rs.getString("delivery_address_zip_code"),
+                    rs.getString("delivery_address_country")),
+            OrderStatus.valueOf(rs.getString("status")),
+            rs.getString("comments"),
+            rs.getBigDecimal("total_amount"),
+            rs.getInt("item_count"),
+            rs.getObject("created_at", LocalDateTime.class),
+            new OrderItem(
+                    rs.getString("code"), rs.getString("name"), rs.getBigDecimal("price"), rs.getInt("quantity")));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    OrderExportReader(DataSource dataSource, ApplicationProperties properties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(properties.exportFetchSize());
+    }
+
+    // Reads through a server-side cursor, so this must run inside a transaction (see OrderEventOutboxReader).
+    // Only the order currently being assembled is held in memory.
+    void forEachUserOrder(String userName, Consumer<OrderDTO> action) {
+        try (Stream<OrderItemRow> rows =
+                jdbcTemplate.queryForStream(SELECT_USER_ORDER_ITEMS, ROW_MAPPER, userName, userName)) {
+            Iterator<OrderItemRow> iterator = rows.iterator();
+            OrderItemRow order = null;
+            Set<OrderItem> items = new HashSet<>();
+            while (iterator.hasNext()) {
+                OrderItemRow row = iterator.next();
+                if (order != null && order.id() != row.id()) {
+                    action.accept(order.toOrder(items));
+                    items = new HashSet<>();
+                }
+                order = row;
+                items.add(row.item());
+            }
+            if (order != null) {
+                action.accept(order.toOrder(items));
+            }
+        }
+    }
+
+    private record OrderItemRow(
+            long id,
+            String orderNumber,
+            String user,
+            Customer customer,
+            Address deliveryAddress,
+            OrderStatus status,
+            String comments,
+            BigDecimal totalAmount,
+            int itemCount,
+            LocalDateTime createdAt,
+            OrderItem item) {
+
+        OrderDTO toOrder(Set<OrderItem> items) {
+            return new OrderDTO(
+                    orderNumber,
+                    user,
+                    items,
+                    customer,
+                    deliveryAddress,
+                    status,
+                    comments,
+                    totalAmount,
+                    itemCount,
+                    createdAt);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.supersection.bookstore.orders.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+
+@Entity
+@Table(name = "order_idempotency_keys")
+@Getter
+@Setter
+class OrderIdempotencyKeyEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_idempotency_key_id_generator")
+    @SequenceGenerator(name = "order_idempotency_key_id_generator", sequenceName = "order_idempotency_key_id_seq")
+    private Long id;
+
+    @Column(nullable = false)
+    private String idempotencyKey;
+
+    @Column(name = "username", nullable = false)
+    private String userName;
+
+    @Column(nullable = false)
+    private String requestHash;
+
+    @Column(nullable = false)
+    private String orderNumber;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+}
@@ -0,0 +1,16 @@
+package com.supersection.bookstore.orders.domain;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+interface OrderIdempotencyKeyRepository extends JpaRepository<OrderIdempotencyKeyEntity, Long> {
+
+    Optional<OrderIdempotencyKeyEntity> findByUserNameAndIdempotencyKey(String userName, String idempotencyKey);
+
+    @Modifying
+    @Query("delete from OrderIdempotencyKeyEntity k where k.expiresAt < :now")
+    int deleteExpired(LocalDateTime now);
+}
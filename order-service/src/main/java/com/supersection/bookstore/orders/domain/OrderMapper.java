@@ -4,6 +4,7 @@ import com.supersection.bookstore.orders.domain.dtos.CreateOrderRequest;
 import com.supersection.bookstore.orders.domain.dtos.OrderDTO;
 import com.supersection.bookstore.orders.domain.models.OrderItem;
 import com.supersection.bookstore.orders.domain.models.OrderStatus;
+import java.math.BigDecimal;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -19,6 +20,8 @@ class OrderMapper {
         newOrder.setDeliveryAddress(request.deliveryAddress());
 
         Set<OrderItemEntity> orderItems = new HashSet<>();
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        int itemCount = 0;
 
         for (OrderItem item : request.items()) {
             OrderItemEntity orderItem = new OrderItemEntity();
@@ -29,9 +32,13 @@ class OrderMapper {
             orderItem.setOrder(newOrder);
 
             orderItems.add(orderItem);
+            totalAmount = totalAmount.add(item.price().multiply(BigDecimal.valueOf(item.quantity())));
+            itemCount += item.quantity();
         }
 
         newOrder.setItems(orderItems);
+        newOrder.setTotalAmount(totalAmount);
+        newOrder.setItemCount(itemCount);
         return newOrder;
     }
 
@@ -48,6 +55,8 @@ class OrderMapper {
                 order.getDeliveryAddress(),
                 order.getStatus(),
                 order.getComments(),
+                order.getTotalAmount(),
+                order.getItemCount(),
                 order.getCreatedAt());
     }
 }
@@ -23,7 +23,8 @@ interface OrderRepository extends JpaRepository<OrderEntity, Long> {
 
     @Query(
             """
-            select new com.supersection.bookstore.orders.domain.models.OrderSummary(o.orderNumber, o.status)
+            select new com.supersection.bookstore.orders.domain.models.OrderSummary(
+                o.orderNumber, o.status, o.totalAmount, o.itemCount)
             from OrderEntity o
             where o.userName = :userName
             """)
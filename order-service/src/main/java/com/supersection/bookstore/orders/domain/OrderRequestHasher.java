@@ -0,0 +1,31 @@
+package com.supersection.bookstore.orders.domain;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.supersection.bookstore.orders.domain.dtos.CreateOrderRequest;
+import com.supersection.bookstore.orders.domain.models.OrderItem;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+
+class OrderRequestHasher {
+    private static final Comparator<OrderItem> ITEM_ORDER = Comparator.comparing(OrderItem::code)
+            .thenComparing(OrderItem::name)
+            .thenComparing(OrderItem::price)
+            .thenComparing(OrderItem::quantity);
+
+    static String hash(ObjectMapper objectMapper, CreateOrderRequest request) {
+        // items is a Set, so sort it to get the same bytes regardless of iteration order
+        List<OrderItem> items = request.items().stream().sorted(ITEM_ORDER).toList();
+        try {
+            byte[] canonical =
+                    objectMapper.writeValueAsBytes(Arrays.asList(items, request.customer(), request.deliveryAddress()));
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(canonical));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
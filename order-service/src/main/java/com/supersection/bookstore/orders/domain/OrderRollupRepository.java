@@ -0,0 +1,81 @@
+package com.supersection.bookstore.orders.domain;
+
+import com.supersection.bookstore.orders.domain.models.OrderReportEntry;
+import com.supersection.bookstore.orders.domain.models.OrderReportGrouping;
+import com.supersection.bookstore.orders.domain.models.OrderStatus;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+class OrderRollupRepository {
+    private static final String UPSERT_ROLLUP =
+            """
+            insert into order_daily_rollups (day, status, country, order_count, total_amount)
+            values (?, ?, ?, ?, ?)
+            on conflict (day, status, country) do update
+            set order_count = order_daily_rollups.order_count + excluded.order_count,
+                total_amount = order_daily_rollups.total_amount + excluded.total_amount
+            """;
+    // NEW orders are not in the rollups until the processing job moves them on, so they are counted live;
+    // there are only ever a few of them and the partial index on NEW orders keeps that cheap
+    private static final String SELECT_REPORT =
+            """
+            select %1$s as bucket, sum(order_count) as order_count, sum(total_amount) as total_amount
+            from (select day, status, country, order_count, total_amount
+                  from order_daily_rollups
+                  where day between ? and ?
+                  union all
+                  select cast(coalesce(created_at, now()) as date) as day, status,
+                         upper(delivery_address_country) as country, 1 as order_count, total_amount
+                  from orders
+                  where status = 'NEW'
+                    and cast(coalesce(created_at, now()) as date) between ? and ?) report
+            group by %1$s
+            order by %1$s
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    OrderRollupRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    void increment(Map<OrderRollupKey, OrderRollupDelta> deltas) {
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((key, delta) -> args.add(new Object[] {
+            Date.valueOf(key.day()), key.status().name(), key.country(), delta.orderCount(), delta.totalAmount()
+        }));
+        jdbcTemplate.batchUpdate(UPSERT_ROLLUP, args);
+    }
+
+    List<OrderReportEntry> findReport(OrderReportGrouping grouping, LocalDate from, LocalDate to) {
+        String column =
+                switch (grouping) {
+                    case DAY -> "day";
+                    case STATUS -> "status";
+                    case COUNTRY -> "country";
+                };
+        return jdbcTemplate.query(
+                SELECT_REPORT.formatted(column),
+                (rs, rowNum) -> new OrderReportEntry(
+                        rs.getString("bucket"), rs.getLong("order_count"), rs.getBigDecimal("total_amount")),
+                Date.valueOf(from),
+                Date.valueOf(to),
+                Date.valueOf(from),
+                Date.valueOf(to));
+    }
+
+    record OrderRollupKey(LocalDate day, OrderStatus status, String country) {}
+
+    record OrderRollupDelta(long orderCount, BigDecimal totalAmount) {
+        OrderRollupDelta add(OrderRollupDelta other) {
+            return new OrderRollupDelta(orderCount + other.orderCount, totalAmount.add(other.totalAmount));
+        }
+    }
+}
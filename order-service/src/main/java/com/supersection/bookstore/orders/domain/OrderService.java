@@ -1,16 +1,32 @@
 package com.supersection.bookstore.orders.domain;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.supersection.bookstore.orders.ApplicationProperties;
+import com.supersection.bookstore.orders.domain.OrderRollupRepository.OrderRollupDelta;
+import com.supersection.bookstore.orders.domain.OrderRollupRepository.OrderRollupKey;
 import com.supersection.bookstore.orders.domain.dtos.CreateOrderRequest;
 import com.supersection.bookstore.orders.domain.dtos.CreateOrderResponse;
 import com.supersection.bookstore.orders.domain.dtos.OrderDTO;
+import com.supersection.bookstore.orders.domain.exception.IdempotencyKeyConflictException;
 import com.supersection.bookstore.orders.domain.models.OrderCreatedEvent;
+import com.supersection.bookstore.orders.domain.models.OrderReportEntry;
+import com.supersection.bookstore.orders.domain.models.OrderReportGrouping;
 import com.supersection.bookstore.orders.domain.models.OrderStatus;
 import com.supersection.bookstore.orders.domain.models.OrderSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.validation.Valid;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,65 +39,206 @@ public class OrderService {
     private final OrderRepository orderRepository;
     private final OrderValidator orderValidator;
     private final OrderEventService orderEventService;
+    private final OrderIdempotencyKeyRepository idempotencyKeyRepository;
+    private final UserOrderSummaryProjection userOrderSummaryProjection;
+    private final OrderRollupRepository orderRollupRepository;
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final OrderExportReader orderExportReader;
+    private final StockReservations stockReservations;
+    private final ObjectMapper objectMapper;
+    private final Duration idempotencyKeyTtl;
+    private final Timer validationTimer;
+    private final Timer reservationTimer;
+    private final Timer insertTimer;
 
-    OrderService(OrderRepository orderRepository, OrderValidator orderValidator, OrderEventService orderEventService) {
+    OrderService(
+            OrderRepository orderRepository,
+            OrderValidator orderValidator,
+            OrderEventService orderEventService,
+            OrderIdempotencyKeyRepository idempotencyKeyRepository,
+            UserOrderSummaryProjection userOrderSummaryProjection,
+            OrderRollupRepository orderRollupRepository,
+            OrderArchiveRepository orderArchiveRepository,
+            OrderExportReader orderExportReader,
+            StockReservations stockReservations,
+            ObjectMapper objectMapper,
+            ApplicationProperties properties,
+            MeterRegistry meterRegistry) {
         this.orderRepository = orderRepository;
         this.orderValidator = orderValidator;
         this.orderEventService = orderEventService;
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.userOrderSummaryProjection = userOrderSummaryProjection;
+        this.orderRollupRepository = orderRollupRepository;
+        this.orderArchiveRepository = orderArchiveRepository;
+        this.orderExportReader = orderExportReader;
+        this.stockReservations = stockReservations;
+        this.objectMapper = objectMapper;
+        this.idempotencyKeyTtl = properties.idempotencyKeyTtl();
+        this.validationTimer = Timer.builder("bookstore.orders.validation")
+                .description("Time spent validating order items against the catalog")
+                .register(meterRegistry);
+        this.reservationTimer = Timer.builder("bookstore.orders.stock-reservation")
+                .description("Time spent reserving stock for the order items in catalog-service")
+                .register(meterRegistry);
+        this.insertTimer = Timer.builder("bookstore.orders.insert")
+                .description("Time spent persisting a new order and its outbox event")
+                .register(meterRegistry);
     }
 
     public CreateOrderResponse createOrder(String userName, @Valid CreateOrderRequest request) {
-        orderValidator.validate(request);
+        return createOrder(userName, null, request);
+    }
+
+    public CreateOrderResponse createOrder(String userName, String idempotencyKey, @Valid CreateOrderRequest request) {
+        String requestHash = null;
+        if (idempotencyKey != null) {
+            requestHash = OrderRequestHasher.hash(objectMapper, request);
+            Optional<OrderIdempotencyKeyEntity> previous =
+                    idempotencyKeyRepository.findByUserNameAndIdempotencyKey(userName, idempotencyKey);
+            if (previous.isPresent()) {
+                if (!previous.get().isExpired(LocalDateTime.now())) {
+                    return replay(previous.get(), requestHash);
+                }
+                // an expired key the purge job has not removed yet counts as unused; Hibernate flushes
+                // inserts before deletes, so the delete is flushed before the new key is saved
+                idempotencyKeyRepository.delete(previous.get());
+                idempotencyKeyRepository.flush();
+            }
+        }
+
+        validationTimer.record(() -> orderValidator.validate(request));
 
         OrderEntity newOrder = OrderMapper.convertToEntity(request);
         newOrder.setUserName(userName);
+        reservationTimer.record(() -> stockReservations.reserve(newOrder.getOrderNumber(), request.items()));
+
+        Timer.Sample insertSample = Timer.start();
         OrderEntity savedOrder = orderRepository.save(newOrder);
+        if (idempotencyKey != null) {
+            saveIdempotencyKey(userName, idempotencyKey, requestHash, savedOrder.getOrderNumber());
+        }
 
-        log.info("Created Order with orderNumber={}", savedOrder.getOrderNumber());
         OrderCreatedEvent orderCreatedEvent = OrderEventMapper.buildOrderCreatedEvent(savedOrder);
         orderEventService.save(orderCreatedEvent);
+        userOrderSummaryProjection.onOrderCreated(savedOrder);
+        // flush here so the batched inserts are attributed to this stage rather than to commit
+        orderRepository.flush();
+        insertSample.stop(insertTimer);
+        log.info(
+                "Created Order with orderNumber={}, eventId={}",
+                savedOrder.getOrderNumber(),
+                orderCreatedEvent.eventId());
 
         return new CreateOrderResponse(savedOrder.getOrderNumber());
     }
 
+    private CreateOrderResponse replay(OrderIdempotencyKeyEntity previous, String requestHash) {
+        if (!previous.getRequestHash().equals(requestHash)) {
+            throw IdempotencyKeyConflictException.forKey(previous.getIdempotencyKey());
+        }
+        log.info(
+                "Replaying Order with orderNumber={} for Idempotency-Key={}",
+                previous.getOrderNumber(),
+                previous.getIdempotencyKey());
+        return new CreateOrderResponse(previous.getOrderNumber());
+    }
+
+    private void saveIdempotencyKey(String userName, String idempotencyKey, String requestHash, String orderNumber) {
+        OrderIdempotencyKeyEntity key = new OrderIdempotencyKeyEntity();
+        key.setIdempotencyKey(idempotencyKey);
+        key.setUserName(userName);
+        key.setRequestHash(requestHash);
+        key.setOrderNumber(orderNumber);
+        key.setExpiresAt(key.getCreatedAt().plus(idempotencyKeyTtl));
+        try {
+            // flush now so a concurrent retry with the same key fails here instead of at commit
+            idempotencyKeyRepository.saveAndFlush(key);
+        } catch (DataIntegrityViolationException e) {
+            throw IdempotencyKeyConflictException.inProgress(idempotencyKey);
+        }
+    }
+
+    public int purgeExpiredIdempotencyKeys() {
+        int purged = idempotencyKeyRepository.deleteExpired(LocalDateTime.now());
+        log.info("Purged {} expired idempotency keys", purged);
+        return purged;
+    }
+
+    @Transactional(readOnly = true)
     public List<OrderSummary> findOrders(String userName) {
-        return orderRepository.findByUserName(userName);
+        return userOrderSummaryProjection.findByUserName(userName);
     }
 
+    @Transactional(readOnly = true)
     public Optional<OrderDTO> findUserOrder(String userName, String orderNumber) {
         return orderRepository
                 .findByUserNameAndOrderNumber(userName, orderNumber)
-                .map(OrderMapper::convertToDTO);
+                .map(OrderMapper::convertToDTO)
+                .or(() -> orderArchiveRepository.findUserOrder(userName, orderNumber));
+    }
+
+    @Transactional(readOnly = true)
+    public void exportUserOrders(String userName, Consumer<OrderDTO> action) {
+        orderExportReader.forEachUserOrder(userName, action);
     }
 
     public void processNewOrders() {
         List<OrderEntity> orders = orderRepository.findByStatus(OrderStatus.NEW);
         log.info("Found {} new orders to process", orders.size());
+        // rollup rows are only written here, by the single locked job, so order creation never contends on them;
+        // the report counts orders that are still NEW straight from the orders table
+        Map<OrderRollupKey, OrderRollupDelta> rollups = new HashMap<>();
         for (OrderEntity order : orders) {
-            this.process(order);
+            OrderStatus status = this.process(order);
+            rollups.merge(
+                    rollupKey(order, status), new OrderRollupDelta(1, order.getTotalAmount()), OrderRollupDelta::add);
+        }
+        if (!rollups.isEmpty()) {
+            orderRollupRepository.increment(rollups);
         }
     }
 
-    private void process(OrderEntity order) {
+    @Transactional(readOnly = true)
+    public List<OrderReportEntry> getOrderReport(OrderReportGrouping grouping, LocalDate from, LocalDate to) {
+        return orderRollupRepository.findReport(grouping, from, to);
+    }
+
+    private OrderStatus process(OrderEntity order) {
         try {
             if (canBeDelivered(order)) {
                 log.info("OrderNumber: {} can be delivered", order.getOrderNumber());
-                orderRepository.updateOrderStatus(order.getOrderNumber(), OrderStatus.DELIVERED);
+                updateOrderStatus(order, OrderStatus.DELIVERED);
                 orderEventService.save(OrderEventMapper.buildOrderDeliveredEvent(order));
-
+                return OrderStatus.DELIVERED;
             } else {
                 log.info("OrderNumber: {} can not be delivered", order.getOrderNumber());
-                orderRepository.updateOrderStatus(order.getOrderNumber(), OrderStatus.CANCELLED);
+                updateOrderStatus(order, OrderStatus.CANCELLED);
+                stockReservations.releaseAfterCommit(order.getOrderNumber());
                 orderEventService.save(
                         OrderEventMapper.buildOrderCancelledEvent(order, "Can't deliver to the location"));
+                return OrderStatus.CANCELLED;
             }
         } catch (RuntimeException e) {
             log.error("Failed to process Order with orderNumber: {}", order.getOrderNumber(), e);
-            orderRepository.updateOrderStatus(order.getOrderNumber(), OrderStatus.ERROR);
+            updateOrderStatus(order, OrderStatus.ERROR);
+            stockReservations.releaseAfterCommit(order.getOrderNumber());
             orderEventService.save(OrderEventMapper.buildOrderErrorEvent(order, e.getMessage()));
+            return OrderStatus.ERROR;
         }
     }
 
+    private static OrderRollupKey rollupKey(OrderEntity order, OrderStatus status) {
+        LocalDate day = order.getCreatedAt() != null ? order.getCreatedAt().toLocalDate() : LocalDate.now();
+        return new OrderRollupKey(
+                day, status, order.getDeliveryAddress().country().toUpperCase());
+    }
+
+    private void updateOrderStatus(OrderEntity order, OrderStatus status) {
+        orderRepository.updateOrderStatus(order.getOrderNumber(), status);
+        userOrderSummaryProjection.onStatusChanged(order, status);
+    }
+
     private boolean canBeDelivered(OrderEntity order) {
         return DELIVERY_ALLOWED_COUNTRIES.contains(
                 order.getDeliveryAddress().country().toUpperCase());
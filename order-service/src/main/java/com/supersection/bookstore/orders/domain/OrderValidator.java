@@ -1,10 +1,12 @@
 package com.supersection.bookstore.orders.domain;
 
+import com.supersection.bookstore.orders.clients.catalog.CatalogReplica;
 import com.supersection.bookstore.orders.clients.catalog.Product;
 import com.supersection.bookstore.orders.clients.catalog.ProductServiceClient;
 import com.supersection.bookstore.orders.domain.dtos.CreateOrderRequest;
 import com.supersection.bookstore.orders.domain.exception.InvalidOrderException;
 import com.supersection.bookstore.orders.domain.models.OrderItem;
+import java.math.BigDecimal;
 import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,22 +16,24 @@ import org.springframework.stereotype.Component;
 class OrderValidator {
     private static final Logger log = LoggerFactory.getLogger(OrderValidator.class);
 
+    private final CatalogReplica catalogReplica;
     private final ProductServiceClient client;
 
-    OrderValidator(ProductServiceClient client) {
+    OrderValidator(CatalogReplica catalogReplica, ProductServiceClient client) {
+        this.catalogReplica = catalogReplica;
         this.client = client;
     }
 
     void validate(CreateOrderRequest request) {
         Set<OrderItem> items = request.items();
         for (OrderItem item : items) {
-            Product product = client.getProductByCode(item.code())
+            // codes the replica has not seen yet (not bootstrapped, or added since the last sync) go to catalog-service
+            BigDecimal price = catalogReplica
+                    .findPrice(item.code())
+                    .or(() -> client.getProductByCode(item.code()).map(Product::price))
                     .orElseThrow(() -> new InvalidOrderException("Invalid Product code:" + item.code()));
-            if (item.price().compareTo(product.price()) != 0) {
-                log.error(
-                        "Product price not matching. Actual price:{}, received price:{}",
-                        product.price(),
-                        item.price());
+            if (item.price().compareTo(price) != 0) {
+                log.error("Product price not matching. Actual price:{}, received price:{}", price, item.price());
                 throw new InvalidOrderException("Product price not matching");
             }
         }
@@ -0,0 +1,13 @@
+package com.supersection.bookstore.orders.domain;
+
+import com.supersection.bookstore.orders.domain.models.OrderEventType;
+import java.time.LocalDateTime;
+
+record PendingOrderEvent(
+        Long id,
+        String eventId,
+        OrderEventType eventType,
+        byte[] payload,
+        String contentType,
+        LocalDateTime createdAt,
+        String traceParent) {}
@@ -0,0 +1,72 @@
+package com.supersection.bookstore.orders.domain;
+
+import com.supersection.bookstore.orders.clients.catalog.ProductServiceClient;
+import com.supersection.bookstore.orders.clients.catalog.StockReservationRequest;
+import com.supersection.bookstore.orders.clients.catalog.StockReservationResult;
+import com.supersection.bookstore.orders.domain.exception.InvalidOrderException;
+import com.supersection.bookstore.orders.domain.models.OrderItem;
+import java.util.List;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Stock is held in catalog-service, so a reservation cannot join the order transaction; it is compensated
+// (released) instead when that transaction does not commit. Both methods need an active transaction.
+@Component
+class StockReservations {
+    private static final Logger log = LoggerFactory.getLogger(StockReservations.class);
+
+    private final ProductServiceClient client;
+
+    StockReservations(ProductServiceClient client) {
+        this.client = client;
+    }
+
+    void reserve(String orderNumber, Set<OrderItem> items) {
+        List<StockReservationRequest.Item> reservationItems = items.stream()
+                .map(item -> new StockReservationRequest.Item(item.code(), item.quantity()))
+                .toList();
+        StockReservationResult result;
+        try {
+            result = client.reserveStock(new StockReservationRequest(orderNumber, reservationItems));
+        } catch (RuntimeException e) {
+            log.error("Stock reservation failed for orderNumber: {}", orderNumber, e);
+            // the reservation may have been applied before the call failed
+            release(orderNumber);
+            throw new InvalidOrderException("Unable to reserve stock, please try again");
+        }
+        if (!result.reserved()) {
+            throw new InvalidOrderException(
+                    "Insufficient stock for products: " + String.join(", ", result.unavailable()));
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    release(orderNumber);
+                }
+            }
+        });
+    }
+
+    // released only once the status change has committed, so a rolled back job run keeps the reservation
+    void releaseAfterCommit(String orderNumber) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                release(orderNumber);
+            }
+        });
+    }
+
+    private void release(String orderNumber) {
+        try {
+            client.releaseStock(orderNumber);
+        } catch (RuntimeException e) {
+            log.error("Failed to release stock for orderNumber: {}", orderNumber, e);
+        }
+    }
+}
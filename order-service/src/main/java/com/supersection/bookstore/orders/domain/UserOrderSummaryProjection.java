@@ -0,0 +1,64 @@
+package com.supersection.bookstore.orders.domain;
+
+import com.supersection.bookstore.orders.domain.models.OrderStatus;
+import com.supersection.bookstore.orders.domain.models.OrderSummary;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+class UserOrderSummaryProjection {
+    static final String CACHE_NAME = "user-order-summaries";
+
+    private final UserOrderSummaryRepository userOrderSummaryRepository;
+    private final CacheManager cacheManager;
+
+    UserOrderSummaryProjection(UserOrderSummaryRepository userOrderSummaryRepository, CacheManager cacheManager) {
+        this.userOrderSummaryRepository = userOrderSummaryRepository;
+        this.cacheManager = cacheManager;
+    }
+
+    @Cacheable(cacheNames = CACHE_NAME, key = "#userName")
+    public List<OrderSummary> findByUserName(String userName) {
+        return userOrderSummaryRepository.findByUserName(userName);
+    }
+
+    public void onOrderCreated(OrderEntity order) {
+        UserOrderSummaryEntity summary = new UserOrderSummaryEntity();
+        summary.setOrderNumber(order.getOrderNumber());
+        summary.setUserName(order.getUserName());
+        summary.setStatus(order.getStatus());
+        summary.setTotalAmount(order.getTotalAmount());
+        summary.setItemCount(order.getItemCount());
+        userOrderSummaryRepository.save(summary);
+        evictAfterCommit(order.getUserName());
+    }
+
+    public void onStatusChanged(OrderEntity order, OrderStatus status) {
+        userOrderSummaryRepository.updateStatus(order.getOrderNumber(), status, LocalDateTime.now());
+        evictAfterCommit(order.getUserName());
+    }
+
+    // Evicting before commit would let a concurrent read cache the old list again until the entry expires.
+    private void evictAfterCommit(String userName) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.evict(userName);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.evict(userName);
+            }
+        });
+    }
+}
@@ -0,0 +1,30 @@
+package com.supersection.bookstore.orders.domain;
+
+import com.supersection.bookstore.orders.domain.models.OrderStatus;
+import com.supersection.bookstore.orders.domain.models.OrderSummary;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+interface UserOrderSummaryRepository extends JpaRepository<UserOrderSummaryEntity, Long> {
+
+    @Query(
+            """
+            select new com.supersection.bookstore.orders.domain.models.OrderSummary(
+                s.orderNumber, s.status, s.totalAmount, s.itemCount)
+            from UserOrderSummaryEntity s
+            where s.userName = :userName
+            """)
+    List<OrderSummary> findByUserName(String userName);
+
+    @Modifying
+    @Query(
+            """
+            update UserOrderSummaryEntity s
+            set s.status = :status, s.updatedAt = :updatedAt
+            where s.orderNumber = :orderNumber
+            """)
+    int updateStatus(String orderNumber, OrderStatus status, LocalDateTime updatedAt);
+}
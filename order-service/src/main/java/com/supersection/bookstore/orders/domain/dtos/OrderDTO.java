@@ -1,6 +1,5 @@
 package com.supersection.bookstore.orders.domain.dtos;
 
-import com.fasterxml.jackson.annotation.JsonProperty;
 import com.supersection.bookstore.orders.domain.models.Address;
 import com.supersection.bookstore.orders.domain.models.Customer;
 import com.supersection.bookstore.orders.domain.models.OrderItem;
@@ -17,12 +16,6 @@ public record OrderDTO(
         Address deliveryAddress,
         OrderStatus status,
         String comments,
-        LocalDateTime createdAt) {
-
-    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
-    public BigDecimal getTotalAmount() {
-        return items.stream()
-                .map(item -> item.price().multiply(BigDecimal.valueOf(item.quantity())))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-    }
-}
+        BigDecimal totalAmount,
+        int itemCount,
+        LocalDateTime createdAt) {}
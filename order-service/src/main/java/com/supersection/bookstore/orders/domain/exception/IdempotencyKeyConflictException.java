@@ -0,0 +1,18 @@
+package com.supersection.bookstore.orders.domain.exception;
+
+public class IdempotencyKeyConflictException extends RuntimeException {
+
+    public IdempotencyKeyConflictException(String message) {
+        super(message);
+    }
+
+    public static IdempotencyKeyConflictException forKey(String idempotencyKey) {
+        return new IdempotencyKeyConflictException(
+                "Idempotency-Key " + idempotencyKey + " was already used with a different request");
+    }
+
+    public static IdempotencyKeyConflictException inProgress(String idempotencyKey) {
+        return new IdempotencyKeyConflictException(
+                "A request with Idempotency-Key " + idempotencyKey + " is already being processed");
+    }
+}
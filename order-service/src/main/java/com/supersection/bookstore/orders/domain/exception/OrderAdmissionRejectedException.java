@@ -0,0 +1,24 @@
+package com.supersection.bookstore.orders.domain.exception;
+
+import java.time.Duration;
+
+public class OrderAdmissionRejectedException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public OrderAdmissionRejectedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    public static OrderAdmissionRejectedException userRateExceeded(String userName, Duration retryAfter) {
+        return new OrderAdmissionRejectedException("Too many orders from user " + userName, retryAfter);
+    }
+
+    public static OrderAdmissionRejectedException overloaded(Duration retryAfter) {
+        return new OrderAdmissionRejectedException("Too many orders are being placed right now", retryAfter);
+    }
+}
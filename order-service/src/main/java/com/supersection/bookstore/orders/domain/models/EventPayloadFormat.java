@@ -0,0 +1,17 @@
+package com.supersection.bookstore.orders.domain.models;
+
+public enum EventPayloadFormat {
+    JSON("application/json"),
+    SMILE("application/x-jackson-smile"),
+    CBOR("application/cbor");
+
+    private final String contentType;
+
+    EventPayloadFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
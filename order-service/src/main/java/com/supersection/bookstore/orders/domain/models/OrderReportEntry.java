@@ -0,0 +1,5 @@
+package com.supersection.bookstore.orders.domain.models;
+
+import java.math.BigDecimal;
+
+public record OrderReportEntry(String bucket, long orderCount, BigDecimal totalAmount) {}
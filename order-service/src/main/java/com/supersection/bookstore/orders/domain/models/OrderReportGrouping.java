@@ -0,0 +1,7 @@
+package com.supersection.bookstore.orders.domain.models;
+
+public enum OrderReportGrouping {
+    DAY,
+    STATUS,
+    COUNTRY
+}
@@ -1,3 +1,5 @@
 package com.supersection.bookstore.orders.domain.models;
 
-public record OrderSummary(String orderNumber, OrderStatus status) {}
+import java.math.BigDecimal;
+
+public record OrderSummary(String orderNumber, OrderStatus status, BigDecimal totalAmount, int itemCount) {}
@@ -0,0 +1,28 @@
+package com.supersection.bookstore.orders.jobs;
+
+import com.supersection.bookstore.orders.clients.catalog.CatalogReplica;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+
+@Component
+class CatalogSyncJob {
+    private static final Logger log = LoggerFactory.getLogger(CatalogSyncJob.class);
+
+    private final CatalogReplica catalogReplica;
+
+    CatalogSyncJob(CatalogReplica catalogReplica) {
+        this.catalogReplica = catalogReplica;
+    }
+
+    @Scheduled(cron = "${orders.catalog-sync-job-cron}")
+    public void syncCatalog() {
+        try {
+            catalogReplica.sync();
+        } catch (RestClientException e) {
+            log.warn("Catalog replica sync failed, will retry on the next run: {}", e.getMessage());
+        }
+    }
+}
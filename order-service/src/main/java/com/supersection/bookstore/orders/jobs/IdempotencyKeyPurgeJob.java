@@ -0,0 +1,29 @@
+package com.supersection.bookstore.orders.jobs;
+
+import com.supersection.bookstore.orders.domain.OrderService;
+import java.time.Instant;
+import net.javacrumbs.shedlock.core.LockAssert;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+class IdempotencyKeyPurgeJob {
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyKeyPurgeJob.class);
+
+    private final OrderService orderService;
+
+    IdempotencyKeyPurgeJob(OrderService orderService) {
+        this.orderService = orderService;
+    }
+
+    @Scheduled(cron = "${orders.purge-idempotency-keys-job-cron}")
+    @SchedulerLock(name = "purgeIdempotencyKeys")
+    public void purgeIdempotencyKeys() {
+        LockAssert.assertLocked();
+        log.info("Purging expired idempotency keys at {}", Instant.now());
+        orderService.purgeExpiredIdempotencyKeys();
+    }
+}
@@ -0,0 +1,29 @@
+package com.supersection.bookstore.orders.jobs;
+
+import com.supersection.bookstore.orders.domain.OrderArchiveService;
+import java.time.Instant;
+import net.javacrumbs.shedlock.core.LockAssert;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+class OrderArchivalJob {
+    private static final Logger log = LoggerFactory.getLogger(OrderArchivalJob.class);
+
+    private final OrderArchiveService orderArchiveService;
+
+    OrderArchivalJob(OrderArchiveService orderArchiveService) {
+        this.orderArchiveService = orderArchiveService;
+    }
+
+    @Scheduled(cron = "${orders.archive-orders-job-cron}")
+    @SchedulerLock(name = "archiveOrders")
+    public void archiveOrders() {
+        LockAssert.assertLocked();
+        log.info("Archiving old orders at {}", Instant.now());
+        orderArchiveService.archiveOrders();
+    }
+}
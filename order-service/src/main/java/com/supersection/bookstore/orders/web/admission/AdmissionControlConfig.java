@@ -0,0 +1,27 @@
+package com.supersection.bookstore.orders.web.admission;
+
+import com.supersection.bookstore.orders.domain.SecurityService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnProperty(prefix = "orders.admission", name = "enabled", matchIfMissing = true)
+@EnableConfigurationProperties(AdmissionControlProperties.class)
+class AdmissionControlConfig implements WebMvcConfigurer {
+    private final OrderAdmissionInterceptor orderAdmissionInterceptor;
+
+    AdmissionControlConfig(
+            AdmissionControlProperties properties, SecurityService securityService, MeterRegistry meterRegistry) {
+        this.orderAdmissionInterceptor = new OrderAdmissionInterceptor(properties, securityService, meterRegistry);
+    }
+
+    // only order creation is admission controlled; the interceptor lets other methods on this path through
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(orderAdmissionInterceptor).addPathPatterns("/api/orders");
+    }
+}
@@ -0,0 +1,15 @@
+package com.supersection.bookstore.orders.web.admission;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "orders.admission")
+record AdmissionControlProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("false") boolean perUserEnabled,
+        @DefaultValue("5") double userRate,
+        @DefaultValue("10") int userBurst,
+        @DefaultValue("50") int maxConcurrent,
+        @DefaultValue("100ms") Duration maxQueueWait,
+        @DefaultValue("1s") Duration retryAfter) {}
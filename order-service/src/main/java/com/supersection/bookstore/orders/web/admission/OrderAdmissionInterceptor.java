@@ -0,0 +1,101 @@
+package com.supersection.bookstore.orders.web.admission;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.supersection.bookstore.orders.domain.SecurityService;
+import com.supersection.bookstore.orders.domain.exception.OrderAdmissionRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+// Runs before OrderController.createOrder, so a rejected request never reaches catalog-service or the database.
+// The per-user bucket is checked first; the global permit is held until the request completes.
+class OrderAdmissionInterceptor implements HandlerInterceptor {
+    private static final String PERMIT_ATTRIBUTE = OrderAdmissionInterceptor.class.getName() + ".permit";
+
+    private final AdmissionControlProperties properties;
+    private final SecurityService securityService;
+    private final Cache<String, TokenBucket> userBuckets;
+    private final Semaphore permits;
+    private final Timer queueTimer;
+    private final Counter admittedCounter;
+    private final Counter userRateRejectedCounter;
+    private final Counter overloadedRejectedCounter;
+
+    OrderAdmissionInterceptor(
+            AdmissionControlProperties properties, SecurityService securityService, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.securityService = securityService;
+        // idle users are evicted once their bucket would have refilled anyway
+        this.userBuckets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .maximumSize(100_000)
+                .build();
+        this.permits = new Semaphore(properties.maxConcurrent(), true);
+        this.queueTimer = Timer.builder("bookstore.orders.admission.queue")
+                .description("Time spent waiting for a global order admission permit")
+                .register(meterRegistry);
+        this.admittedCounter = decisionCounter(meterRegistry, "admitted", "none");
+        this.userRateRejectedCounter = decisionCounter(meterRegistry, "rejected", "user-rate");
+        this.overloadedRejectedCounter = decisionCounter(meterRegistry, "rejected", "concurrency");
+        Gauge.builder("bookstore.orders.admission.in-flight", this::inFlight)
+                .description("Order creations currently holding an admission permit")
+                .register(meterRegistry);
+    }
+
+    private int inFlight() {
+        return properties.maxConcurrent() - permits.availablePermits();
+    }
+
+    private static Counter decisionCounter(MeterRegistry meterRegistry, String decision, String reason) {
+        return Counter.builder("bookstore.orders.admission.decisions")
+                .tag("decision", decision)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws InterruptedException {
+        if (!"POST".equals(request.getMethod())) {
+            return true;
+        }
+        if (properties.perUserEnabled()) {
+            String userName = securityService.getLoginUserName();
+            long now = System.nanoTime();
+            TokenBucket bucket = userBuckets.get(
+                    userName, user -> new TokenBucket(properties.userBurst(), properties.userRate(), now));
+            long waitNanos = bucket.tryConsume(now);
+            if (waitNanos > 0) {
+                userRateRejectedCounter.increment();
+                throw OrderAdmissionRejectedException.userRateExceeded(userName, Duration.ofNanos(waitNanos));
+            }
+        }
+        long queueStart = System.nanoTime();
+        boolean acquired = permits.tryAcquire(properties.maxQueueWait().toNanos(), TimeUnit.NANOSECONDS);
+        queueTimer.record(System.nanoTime() - queueStart, TimeUnit.NANOSECONDS);
+        if (!acquired) {
+            overloadedRejectedCounter.increment();
+            throw OrderAdmissionRejectedException.overloaded(properties.retryAfter());
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, Boolean.TRUE);
+        admittedCounter.increment();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            permits.release();
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.supersection.bookstore.orders.web.controllers;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.supersection.bookstore.orders.domain.OrderService;
 import com.supersection.bookstore.orders.domain.SecurityService;
 import com.supersection.bookstore.orders.domain.dtos.CreateOrderRequest;
@@ -8,31 +11,43 @@ import com.supersection.bookstore.orders.domain.dtos.OrderDTO;
 import com.supersection.bookstore.orders.domain.exception.OrderNotFoundException;
 import com.supersection.bookstore.orders.domain.models.OrderSummary;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/orders")
 class OrderController {
     private static final Logger log = LoggerFactory.getLogger(OrderController.class);
-
     private final OrderService orderService;
     private final SecurityService securityService;
+    private final ObjectWriter orderWriter;
 
-    OrderController(OrderService orderService, SecurityService securityService) {
+    OrderController(OrderService orderService, SecurityService securityService, ObjectMapper objectMapper) {
         this.orderService = orderService;
         this.securityService = securityService;
+        // one JSON document per line, so the writer must neither close nor flush the response stream per order
+        this.orderWriter = objectMapper
+                .writerFor(OrderDTO.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
     }
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    CreateOrderResponse createOrder(@Valid @RequestBody CreateOrderRequest request) {
+    CreateOrderResponse createOrder(
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
+            @Valid @RequestBody CreateOrderRequest request) {
         String userName = securityService.getLoginUserName();
         log.info("Creating order for user: {}", userName);
-        return orderService.createOrder(userName, request);
+        return orderService.createOrder(userName, idempotencyKey, request);
     }
 
     @GetMapping
@@ -42,6 +57,21 @@ class OrderController {
         return orderService.findOrders(userName);
     }
 
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    ResponseEntity<StreamingResponseBody> exportOrders() {
+        String userName = securityService.getLoginUserName();
+        log.info("Exporting orders for user: {}", userName);
+        StreamingResponseBody body = out -> orderService.exportUserOrders(userName, order -> {
+            try {
+                orderWriter.writeValue(out, order);
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @GetMapping(value = "/{orderNumber}")
     OrderDTO getOrder(@PathVariable(value = "orderNumber") String orderNumber) {
         log.info("Fetching order by id: {}", orderNumber);
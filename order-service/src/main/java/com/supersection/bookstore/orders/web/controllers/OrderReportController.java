@@ -0,0 +1,38 @@
+package com.supersection.bookstore.orders.web.controllers;
+
+import com.supersection.bookstore.orders.domain.OrderService;
+import com.supersection.bookstore.orders.domain.models.OrderReportEntry;
+import com.supersection.bookstore.orders.domain.models.OrderReportGrouping;
+import java.time.LocalDate;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/reports/orders")
+class OrderReportController {
+    private static final Logger log = LoggerFactory.getLogger(OrderReportController.class);
+
+    private final OrderService orderService;
+
+    OrderReportController(OrderService orderService) {
+        this.orderService = orderService;
+    }
+
+    @GetMapping
+    List<OrderReportEntry> getOrderReport(
+            @RequestParam(name = "groupBy", defaultValue = "STATUS") OrderReportGrouping grouping,
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate toDate = to != null ? to : LocalDate.now();
+        LocalDate fromDate = from != null ? from : toDate.minusDays(30);
+        log.info("Fetching order report grouped by {} from {} to {}", grouping, fromDate, toDate);
+        return orderService.getOrderReport(grouping, fromDate, toDate);
+    }
+}
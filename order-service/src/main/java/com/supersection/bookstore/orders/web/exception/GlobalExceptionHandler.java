@@ -1,6 +1,8 @@
 package com.supersection.bookstore.orders.web.exception;
 
+import com.supersection.bookstore.orders.domain.exception.IdempotencyKeyConflictException;
 import com.supersection.bookstore.orders.domain.exception.InvalidOrderException;
+import com.supersection.bookstore.orders.domain.exception.OrderAdmissionRejectedException;
 import com.supersection.bookstore.orders.domain.exception.OrderNotFoundException;
 import jakarta.annotation.Nullable;
 import java.net.URI;
@@ -23,6 +25,8 @@ class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
     private static final URI NOT_FOUND_TYPE = URI.create("https://api.bookstore.com/errors/not-found");
     private static final URI ISE_FOUND_TYPE = URI.create("https://api.bookstore.com/errors/server-error");
     private static final URI BAD_REQUEST_TYPE = URI.create("https://api.bookstore.com/errors/bad-request");
+    private static final URI CONFLICT_TYPE = URI.create("https://api.bookstore.com/errors/conflict");
+    private static final URI TOO_MANY_REQUESTS_TYPE = URI.create("https://api.bookstore.com/errors/too-many-requests");
     private static final String SERVICE_NAME = "order-service";
 
     @ExceptionHandler(Exception.class)
@@ -59,6 +63,32 @@ class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return problemDetail;
     }
 
+    @ExceptionHandler(IdempotencyKeyConflictException.class)
+    ProblemDetail handleIdempotencyKeyConflictException(IdempotencyKeyConflictException e) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, e.getMessage());
+        problemDetail.setTitle("Idempotency Key Conflict");
+        problemDetail.setType(CONFLICT_TYPE);
+        problemDetail.setProperty("service", SERVICE_NAME);
+        problemDetail.setProperty("error_category", "Generic");
+        problemDetail.setProperty("timestamp", Instant.now());
+        return problemDetail;
+    }
+
+    @ExceptionHandler(OrderAdmissionRejectedException.class)
+    ResponseEntity<ProblemDetail> handleOrderAdmissionRejectedException(OrderAdmissionRejectedException e) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.TOO_MANY_REQUESTS, e.getMessage());
+        problemDetail.setTitle("Too Many Requests");
+        problemDetail.setType(TOO_MANY_REQUESTS_TYPE);
+        problemDetail.setProperty("service", SERVICE_NAME);
+        problemDetail.setProperty("error_category", "Generic");
+        problemDetail.setProperty("timestamp", Instant.now());
+        // whole seconds, rounded up so that clients honouring it do not come back too early
+        long retryAfterSeconds = Math.max(1, (e.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(problemDetail);
+    }
+
     @Override
     @Nullable protected ResponseEntity<Object> handleMethodArgumentNotValid(
             MethodArgumentNotValidException exception, HttpHeaders headers, HttpStatusCode status, WebRequest request) {
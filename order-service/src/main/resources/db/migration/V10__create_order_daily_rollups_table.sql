@@ -0,0 +1,19 @@
+create table order_daily_rollups
+(
+    day          date    not null,
+    status       text    not null,
+    country      text    not null,
+    order_count  bigint  not null,
+    total_amount numeric not null,
+    primary key (day, status, country)
+);
+
+insert into order_daily_rollups (day, status, country, order_count, total_amount)
+select cast(coalesce(created_at, updated_at, now()) as date),
+       status,
+       upper(delivery_address_country),
+       count(*),
+       sum(total_amount)
+from orders
+where status <> 'NEW'
+group by 1, 2, 3;
@@ -0,0 +1,41 @@
+create table orders_archive
+(
+    id                        bigint    not null,
+    order_number              text      not null,
+    username                  text      not null,
+    customer_name             text      not null,
+    customer_email            text      not null,
+    customer_phone            text      not null,
+    delivery_address_line1    text      not null,
+    delivery_address_line2    text,
+    delivery_address_city     text      not null,
+    delivery_address_state    text      not null,
+    delivery_address_zip_code text      not null,
+    delivery_address_country  text      not null,
+    status                    text      not null,
+    comments                  text,
+    total_amount              numeric   not null,
+    item_count                integer   not null,
+    created_at                timestamp not null,
+    updated_at                timestamp,
+    archived_at               timestamp not null,
+    primary key (id, created_at)
+) partition by range (created_at);
+
+create index idx_orders_archive_username_order_number on orders_archive (username, order_number);
+
+create table order_items_archive
+(
+    id               bigint    not null,
+    code             text      not null,
+    name             text      not null,
+    price            numeric   not null,
+    quantity         integer   not null,
+    order_id         bigint    not null,
+    order_created_at timestamp not null,
+    primary key (id, order_created_at)
+) partition by range (order_created_at);
+
+create index idx_order_items_archive_order_id on order_items_archive (order_id);
+
+create index idx_orders_status on orders (status);
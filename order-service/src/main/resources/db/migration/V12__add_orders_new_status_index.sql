@@ -0,0 +1 @@
+create index orders_new_created_at_idx on orders (created_at) where status = 'NEW';
@@ -0,0 +1,4 @@
+alter table order_idempotency_keys add column expires_at timestamp;
+update order_idempotency_keys set expires_at = created_at + interval '24 hours';
+alter table order_idempotency_keys alter column expires_at set not null;
+create index order_idempotency_keys_expires_at_idx on order_idempotency_keys (expires_at);
@@ -0,0 +1,5 @@
+alter table order_events
+    alter column payload type bytea using convert_to(payload, 'UTF8');
+
+alter table order_events
+    add column content_type text not null default 'application/json';
@@ -0,0 +1 @@
+create index order_events_created_at_idx on order_events (created_at, id);
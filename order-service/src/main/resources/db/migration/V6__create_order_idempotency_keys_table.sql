@@ -0,0 +1,13 @@
+create sequence order_idempotency_key_id_seq start with 1 increment by 50;
+
+create table order_idempotency_keys
+(
+    id              bigint default nextval('order_idempotency_key_id_seq') not null,
+    idempotency_key text                                                    not null,
+    username        text                                                    not null,
+    request_hash    text                                                    not null,
+    order_number    text                                                    not null references orders (order_number),
+    created_at      timestamp                                               not null,
+    primary key (id),
+    unique (username, idempotency_key)
+);
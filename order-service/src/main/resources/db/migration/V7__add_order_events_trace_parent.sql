@@ -0,0 +1 @@
+alter table order_events add column trace_parent text;
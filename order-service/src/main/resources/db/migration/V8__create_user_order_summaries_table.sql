@@ -0,0 +1,19 @@
+create sequence user_order_summary_id_seq start with 1 increment by 50;
+
+create table user_order_summaries
+(
+    id           bigint default nextval('user_order_summary_id_seq') not null,
+    order_number text      not null unique,
+    username     text      not null,
+    status       text      not null,
+    created_at   timestamp not null,
+    updated_at   timestamp,
+    primary key (id)
+);
+
+create index idx_user_order_summaries_username
+    on user_order_summaries (username) include (order_number, status);
+
+insert into user_order_summaries (order_number, username, status, created_at, updated_at)
+select order_number, username, status, coalesce(created_at, now()), updated_at
+from orders;
@@ -0,0 +1,44 @@
+alter table orders
+    add column total_amount numeric,
+    add column item_count   integer;
+
+update orders o
+set total_amount = t.total_amount,
+    item_count   = t.item_count
+from (select order_id, sum(price * quantity) as total_amount, sum(quantity) as item_count
+      from order_items
+      group by order_id) t
+where t.order_id = o.id;
+
+update orders
+set total_amount = 0,
+    item_count   = 0
+where total_amount is null;
+
+alter table orders
+    alter column total_amount set not null,
+    alter column item_count set not null;
+
+alter table user_order_summaries
+    add column total_amount numeric,
+    add column item_count   integer;
+
+update user_order_summaries s
+set total_amount = coalesce(o.total_amount, 0),
+    item_count   = coalesce(o.item_count, 0)
+from orders o
+where o.order_number = s.order_number;
+
+update user_order_summaries
+set total_amount = 0,
+    item_count   = 0
+where total_amount is null;
+
+alter table user_order_summaries
+    alter column total_amount set not null,
+    alter column item_count set not null;
+
+drop index idx_user_order_summaries_username;
+
+create index idx_user_order_summaries_username
+    on user_order_summaries (username) include (order_number, status, total_amount, item_count);
@@ -31,11 +31,18 @@ public abstract class AbstractIntegrationTest {
     static void beforeAll() {
         wiremockServer.start();
         configureFor(wiremockServer.getHost(), wiremockServer.getPort());
+        // every order reserves stock in catalog-service; tests needing another outcome add a more specific stub
+        stubFor(WireMock.post(urlEqualTo("/api/products/reservations"))
+                .willReturn(okJson("{\"reserved\": true, \"unavailable\": []}")));
+        stubFor(WireMock.delete(urlMatching("/api/products/reservations/.*"))
+                .willReturn(aResponse().withStatus(204)));
     }
 
     @DynamicPropertySource
     static void configureProperties(DynamicPropertyRegistry registry) {
         registry.add("orders.catalog-service-url", wiremockServer::getBaseUrl);
+        // products are stubbed per test, so keep the catalog replica empty and let validation reach the stubs
+        registry.add("orders.catalog-sync-job-cron", () -> "-");
     }
 
     @BeforeEach
@@ -0,0 +1,51 @@
+package com.supersection.bookstore.orders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.supersection.bookstore.orders.domain.OrderEventService;
+import com.supersection.bookstore.orders.domain.OrderService;
+import com.supersection.bookstore.orders.domain.dtos.CreateOrderResponse;
+import com.supersection.bookstore.orders.testdata.TestDataFactory;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+// A CRaC checkpoint stops every Lifecycle bean and a restore starts them again;
+// stopping and starting the context exercises the same path without a CRaC-enabled JDK.
+@TestPropertySource(properties = {"orders.publish-order-events-job-cron=-", "orders.new-orders-job-cron=-"})
+@DirtiesContext
+class CheckpointRestoreTests extends AbstractIntegrationTest {
+
+    @Autowired
+    ConfigurableApplicationContext applicationContext;
+
+    @Autowired
+    OrderService orderService;
+
+    @Autowired
+    OrderEventService orderEventService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldReopenConnectionsAfterRestart() {
+        mockGetProductByCode("P100", "Product 1", new BigDecimal("25.50"));
+        orderService.createOrder("user", TestDataFactory.createValidOrderRequest());
+        orderEventService.publishOrderEvents();
+
+        applicationContext.stop();
+        applicationContext.start();
+
+        CreateOrderResponse response = orderService.createOrder("user", TestDataFactory.createValidOrderRequest());
+        orderEventService.publishOrderEvents();
+
+        assertThat(response.orderNumber()).isNotBlank();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from order_events", Long.class))
+                .isZero();
+    }
+}
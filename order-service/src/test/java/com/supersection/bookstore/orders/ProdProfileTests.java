@@ -0,0 +1,47 @@
+package com.supersection.bookstore.orders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("prod")
+class ProdProfileTests extends AbstractIntegrationTest {
+
+    @Autowired
+    JpaProperties jpaProperties;
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Test
+    void shouldNotEchoSqlInProdProfile() {
+        assertThat(jpaProperties.isShowSql()).isFalse();
+        assertThat(jpaProperties.getProperties()).doesNotContainEntry("hibernate.format_sql", "true");
+    }
+
+    @Test
+    void shouldUseServerSidePreparedStatementsAndSizedPool() throws SQLException {
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+
+        assertThat(hikari.getPoolName()).isEqualTo("order-service-pool");
+        assertThat(hikari.getDataSourceProperties()).containsEntry("prepareThreshold", "1");
+        assertThat(hikari.getConnectionTimeout()).isEqualTo(2000);
+    }
+
+    @Test
+    void shouldExportHikariPoolMetrics() {
+        assertThat(meterRegistry.find("hikaricp.connections.acquire").timer()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.usage").timer()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.timeout").counter()).isNotNull();
+    }
+}
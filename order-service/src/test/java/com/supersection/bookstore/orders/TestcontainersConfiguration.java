@@ -1,13 +1,16 @@
 package com.supersection.bookstore.orders;
 
+import com.supersection.bookstore.orders.testdata.TestDataRuntimeHints;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.containers.RabbitMQContainer;
 import org.testcontainers.utility.DockerImageName;
 
 @TestConfiguration(proxyBeanMethods = false)
+@ImportRuntimeHints(TestDataRuntimeHints.class)
 class TestcontainersConfiguration {
 
     @Bean
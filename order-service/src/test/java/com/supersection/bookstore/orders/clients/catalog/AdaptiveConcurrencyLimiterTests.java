@@ -0,0 +1,75 @@
+package com.supersection.bookstore.orders.clients.catalog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTests {
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofMillis(50).toNanos();
+
+    @Test
+    void shouldRejectOnceLimitIsReached() {
+        var limiter = new AdaptiveConcurrencyLimiter(2, 1, 4);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        limiter.release(FAST, false);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void shouldShrinkWhenLatencyRisesAndRecoverWhenItSettles() {
+        var limiter = new AdaptiveConcurrencyLimiter(10, 2, 20);
+
+        saturate(limiter, FAST, 100);
+        assertThat(limiter.getLimit()).isEqualTo(20);
+
+        saturate(limiter, SLOW, 5);
+        assertThat(limiter.getLimit()).isLessThan(10).isGreaterThanOrEqualTo(2);
+        assertThat(limiter.getLastRttNanos()).isEqualTo(SLOW);
+
+        saturate(limiter, FAST, 100);
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    void shouldBackOffOnDrops() {
+        var limiter = new AdaptiveConcurrencyLimiter(10, 2, 20);
+
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST, true);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotGrowWhileMostlyIdle() {
+        var limiter = new AdaptiveConcurrencyLimiter(10, 2, 20);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST, false);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    // fills every permit, then completes all calls with the given round trip time
+    private static void saturate(AdaptiveConcurrencyLimiter limiter, long rttNanos, int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            int acquired = 0;
+            while (limiter.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limiter.release(rttNanos, false);
+            }
+        }
+    }
+}
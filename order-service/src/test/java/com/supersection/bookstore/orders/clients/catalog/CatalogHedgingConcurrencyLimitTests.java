@@ -0,0 +1,76 @@
+package com.supersection.bookstore.orders.clients.catalog;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.web.client.RestClient;
+
+class CatalogHedgingConcurrencyLimitTests {
+    private static final String PRODUCT = "{\"code\": \"P100\", \"name\": \"Product 1\", \"price\": 25.50}";
+
+    private final WireMockServer catalog = new WireMockServer(options().dynamicPort());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 2, 20);
+    private final CatalogRequestFactory requestFactory = new CatalogRequestFactory();
+
+    @BeforeEach
+    void setUp() {
+        catalog.start();
+        // whichever lookup arrives first hangs until it is cancelled, the other one answers immediately
+        catalog.stubFor(get(urlEqualTo("/api/products/P100"))
+                .inScenario("hedge")
+                .whenScenarioStateIs(STARTED)
+                .willReturn(okJson(PRODUCT).withFixedDelay(3000))
+                .willSetStateTo("hedged"));
+        catalog.stubFor(get(urlEqualTo("/api/products/P100"))
+                .inScenario("hedge")
+                .whenScenarioStateIs("hedged")
+                .willReturn(okJson(PRODUCT)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        requestFactory.stop();
+        catalog.stop();
+    }
+
+    @Test
+    void shouldNotShrinkConcurrencyLimitWhenLosingHedgeIsCancelled() throws Exception {
+        RestClient restClient = RestClient.builder()
+                .baseUrl(catalog.baseUrl())
+                .requestFactory(requestFactory)
+                .requestInterceptor(new CatalogConcurrencyLimitInterceptor(limiter, meterRegistry))
+                .build();
+        var executor = new SimpleAsyncTaskExecutor("catalog-hedging-");
+        executor.setVirtualThreads(true);
+        var properties = new CatalogHedgingProperties(true, 0.95, Duration.ofMillis(10), Duration.ofMillis(50), 100);
+        var hedger = new CatalogRequestHedger(properties, executor, meterRegistry);
+
+        Product product = hedger.execute(() ->
+                restClient.get().uri("/api/products/{code}", "P100").retrieve().body(Product.class));
+
+        assertThat(product.code()).isEqualTo("P100");
+        assertThat(meterRegistry
+                        .get("bookstore.catalog.client.hedging.hedges")
+                        .counter()
+                        .count())
+                .isEqualTo(1);
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (limiter.getInFlight() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+}
@@ -0,0 +1,57 @@
+package com.supersection.bookstore.orders.clients.catalog;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.supersection.bookstore.orders.AbstractIntegrationTest;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {"orders.publish-order-events-job-cron=-", "orders.new-orders-job-cron=-"})
+class CatalogReplicaTests extends AbstractIntegrationTest {
+
+    @Autowired
+    CatalogReplica catalogReplica;
+
+    @Test
+    void shouldBootstrapFromChangesFeedAndThenApplyDeltas() {
+        mockProductChanges(0, "[%s, %s]".formatted(product("C100", "10.00"), product("C101", "20.00")), 2, true);
+        mockProductChanges(2, "[%s]".formatted(product("C102", "30.00")), 3, false);
+
+        catalogReplica.sync();
+
+        assertThat(catalogReplica.findPrice("C100")).contains(new BigDecimal("10.00"));
+        assertThat(catalogReplica.findPrice("C101")).contains(new BigDecimal("20.00"));
+        assertThat(catalogReplica.findPrice("C102")).contains(new BigDecimal("30.00"));
+
+        mockProductChanges(3, "[%s]".formatted(product("C100", "12.00")), 4, false);
+
+        catalogReplica.sync();
+
+        assertThat(catalogReplica.findPrice("C100")).contains(new BigDecimal("12.00"));
+        assertThat(catalogReplica.findPrice("C999")).isEmpty();
+    }
+
+    private static String product(String code, String price) {
+        return """
+                {"code": "%s", "name": "Product %s", "price": %s}""".formatted(code, code, price);
+    }
+
+    private static void mockProductChanges(long since, String products, long version, boolean hasMore) {
+        stubFor(get(urlEqualTo("/api/products/changes?since=" + since))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                        .withStatus(200)
+                        .withBody(
+                                """
+                                {"products": %s, "version": %d, "hasMore": %b}
+                                """
+                                        .formatted(products, version, hasMore))));
+    }
+}
@@ -0,0 +1,122 @@
+package com.supersection.bookstore.orders.clients.catalog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+class CatalogRequestHedgerTests {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldUseHedgeWhenFirstRequestIsSlowAndCancelTheOther() throws Exception {
+        var hedger = hedger(100);
+        var cancelled = new CountDownLatch(1);
+        var calls = new AtomicInteger();
+
+        String result = hedger.execute(() -> {
+            if (calls.incrementAndGet() == 1) {
+                return sleepUntilInterrupted(cancelled);
+            }
+            return "hedge";
+        });
+
+        assertThat(result).isEqualTo("hedge");
+        assertThat(cancelled.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(count("hedges")).isEqualTo(1);
+        assertThat(count("wins")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldWaitForFirstRequestWhenBudgetIsSpent() {
+        var hedger = hedger(0);
+        var calls = new AtomicInteger();
+
+        String result = hedger.execute(() -> {
+            calls.incrementAndGet();
+            sleep(Duration.ofMillis(200));
+            return "primary";
+        });
+
+        assertThat(result).isEqualTo("primary");
+        assertThat(calls).hasValue(1);
+        assertThat(count("hedges")).isZero();
+        assertThat(count("budget-exhausted")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRethrowFailureOfFastRequest() {
+        var hedger = hedger(100);
+        Supplier<String> notFound = () -> {
+            throw new HttpClientErrorException(HttpStatus.NOT_FOUND);
+        };
+
+        assertThatThrownBy(() -> hedger.execute(notFound)).isInstanceOf(HttpClientErrorException.class);
+        assertThat(count("hedges")).isZero();
+    }
+
+    @Test
+    void shouldKeepDelayUpWhenSlowPrimariesAreCancelled() {
+        var hedger = hedger(100);
+        AtomicInteger calls = new AtomicInteger();
+
+        // the delay is recomputed every 100 samples; only the winning hedges would get there on their own
+        for (int i = 0; i < 100; i++) {
+            hedger.execute(() -> {
+                if (calls.incrementAndGet() % 2 == 1) {
+                    return sleepUntilInterrupted(new CountDownLatch(1));
+                }
+                return "hedge";
+            });
+        }
+
+        assertThat(count("hedges")).isEqualTo(100);
+        assertThat(meterRegistry
+                        .get("bookstore.catalog.client.hedging.delay")
+                        .timeGauge()
+                        .value(TimeUnit.MILLISECONDS))
+                .isGreaterThanOrEqualTo(40);
+    }
+
+    private CatalogRequestHedger hedger(int budgetPercent) {
+        var properties =
+                new CatalogHedgingProperties(true, 0.95, Duration.ofMillis(10), Duration.ofMillis(50), budgetPercent);
+        var executor = new SimpleAsyncTaskExecutor("catalog-hedging-");
+        executor.setVirtualThreads(true);
+        return new CatalogRequestHedger(properties, executor, meterRegistry);
+    }
+
+    private double count(String name) {
+        return meterRegistry
+                .get("bookstore.catalog.client.hedging." + name)
+                .counter()
+                .count();
+    }
+
+    private static String sleepUntilInterrupted(CountDownLatch cancelled) {
+        try {
+            Thread.sleep(Duration.ofSeconds(10));
+            return "primary";
+        } catch (InterruptedException e) {
+            cancelled.countDown();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
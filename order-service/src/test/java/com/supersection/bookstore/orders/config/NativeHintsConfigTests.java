@@ -0,0 +1,27 @@
+package com.supersection.bookstore.orders.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+class NativeHintsConfigTests {
+
+    @Test
+    void shouldRegisterEverySchedulerLockJobForReflection() {
+        var hints = new RuntimeHints();
+        new NativeHintsConfig.OrderServiceRuntimeHints()
+                .registerHints(hints, getClass().getClassLoader());
+
+        Stream.of("IdempotencyKeyPurgeJob", "OrderArchivalJob", "OrderEventsPublishingJob", "OrderProcessingJob")
+                .map(job -> TypeReference.of("com.supersection.bookstore.orders.jobs." + job))
+                .forEach(job -> assertThat(RuntimeHintsPredicates.reflection()
+                                .onType(job)
+                                .withMemberCategory(MemberCategory.INVOKE_DECLARED_METHODS))
+                        .accepts(hints));
+    }
+}
@@ -0,0 +1,75 @@
+package com.supersection.bookstore.orders.config;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.supersection.bookstore.orders.AbstractIntegrationTest;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+class ReadReplicaRoutingTests extends AbstractIntegrationTest {
+
+    static PostgreSQLContainer<?> replica = new PostgreSQLContainer<>(DockerImageName.parse("postgres:17-alpine3.21"));
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    // The replica gets the same schema as the primary plus one order the primary does not have,
+    // so a response containing it can only have been served from the replica.
+    @BeforeAll
+    static void startReplica() {
+        replica.start();
+        var replicaDataSource =
+                new DriverManagerDataSource(replica.getJdbcUrl(), replica.getUsername(), replica.getPassword());
+        Flyway.configure().dataSource(replicaDataSource).load().migrate();
+        var replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        replicaJdbcTemplate.update(
+                """
+                insert into orders (id, order_number, username, customer_name, customer_email, customer_phone,
+                                    delivery_address_line1, delivery_address_city, delivery_address_state,
+                                    delivery_address_zip_code, delivery_address_country, status,
+                                    total_amount, item_count)
+                values (1, 'replica-order', 'user', 'Soumo', 'soumo@gmail.com', '11111111',
+                        '123 Main St', 'Dallas', 'TX', '75001', 'USA', 'DELIVERED', 34.0, 1)
+                """);
+        replicaJdbcTemplate.update(
+                """
+                insert into order_items (order_id, code, name, price, quantity)
+                values (1, 'P100', 'Replica Only Book', 34.0, 1)
+                """);
+    }
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        registry.add("orders.replica-datasource.url", replica::getJdbcUrl);
+        registry.add("orders.replica-datasource.username", replica::getUsername);
+        registry.add("orders.replica-datasource.password", replica::getPassword);
+    }
+
+    @Test
+    void shouldServeReadOnlyQueriesFromReplica() {
+        given().when()
+                .get("/api/orders/{orderNumber}", "replica-order")
+                .then()
+                .statusCode(200)
+                .body("orderNumber", is("replica-order"))
+                .body("items[0].name", is("Replica Only Book"));
+    }
+
+    @Test
+    void shouldKeepNonReadOnlyWorkOnPrimary() {
+        Integer count = jdbcTemplate.queryForObject(
+                "select count(*) from orders where order_number = 'replica-order'", Integer.class);
+
+        assertThat(count).isZero();
+    }
+}
@@ -0,0 +1,54 @@
+package com.supersection.bookstore.orders.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.supersection.bookstore.orders.AbstractIntegrationTest;
+import com.supersection.bookstore.orders.domain.dtos.OrderDTO;
+import com.supersection.bookstore.orders.domain.models.OrderStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+@TestPropertySource(properties = {"orders.publish-order-events-job-cron=-", "orders.new-orders-job-cron=-"})
+@Sql("/test-orders.sql")
+@Sql(
+        statements = {
+            "truncate table orders_archive, order_items_archive",
+            "update orders set status = 'DELIVERED', created_at = now() - interval '200 days' where id = 1"
+        })
+class OrderArchiveServiceTests extends AbstractIntegrationTest {
+
+    @Autowired
+    OrderArchiveService orderArchiveService;
+
+    @Autowired
+    OrderService orderService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldMoveOldCompletedOrdersToArchive() {
+        int archived = orderArchiveService.archiveOrders();
+
+        assertThat(archived).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList("select order_number from orders", String.class))
+                .containsExactly("order-456");
+        assertThat(jdbcTemplate.queryForObject("select count(*) from order_items where order_id = 1", Long.class))
+                .isZero();
+    }
+
+    @Test
+    void shouldFindArchivedOrderForUser() {
+        orderArchiveService.archiveOrders();
+
+        OrderDTO order = orderService.findUserOrder("user", "order-123").orElseThrow();
+
+        assertThat(order.status()).isEqualTo(OrderStatus.DELIVERED);
+        assertThat(order.items()).hasSize(2);
+        assertThat(order.totalAmount()).isEqualByComparingTo("113.40");
+        assertThat(orderService.findUserOrder("other-user", "order-123")).isEmpty();
+    }
+}
@@ -0,0 +1,104 @@
+package com.supersection.bookstore.orders.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.supersection.bookstore.orders.AbstractIntegrationTest;
+import com.supersection.bookstore.orders.ApplicationProperties;
+import com.supersection.bookstore.orders.domain.models.OrderEventType;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+// Runs only with -Poutbox-memory, which caps the heap at 256 MiB. The backlog payloads add up to ~400 MiB,
+// so the relay only passes if it streams the outbox in fetch-size windows instead of loading it at once.
+@Tag("outbox-memory")
+@Import(OrderEventOutboxMemoryTests.CountingPublisherConfig.class)
+@TestPropertySource(properties = {"orders.publish-order-events-job-cron=-", "orders.new-orders-job-cron=-"})
+class OrderEventOutboxMemoryTests extends AbstractIntegrationTest {
+    private static final int BACKLOG_SIZE = 400_000;
+    private static final int PAYLOAD_BYTES = 1024;
+
+    @Autowired
+    OrderEventService orderEventService;
+
+    @Autowired
+    CountingOrderEventPublisher publisher;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void createBacklog() {
+        jdbcTemplate.update("truncate table orders cascade");
+        jdbcTemplate.update(
+                """
+                insert into orders (order_number, username, customer_name, customer_email, customer_phone,
+                                    delivery_address_line1, delivery_address_city, delivery_address_state,
+                                    delivery_address_zip_code, delivery_address_country, status,
+                                    total_amount, item_count)
+                values ('order-backlog', 'user', 'Soumo', 'soumo@gmail.com', '11111111',
+                        '123 Main St', 'Dallas', 'TX', '75001', 'USA', 'DELIVERED', 0, 0)
+                """);
+        jdbcTemplate.update(
+                """
+                insert into order_events (order_number, event_id, event_type, payload, content_type, created_at)
+                select 'order-backlog', 'event-' || g, 'ORDER_DELIVERED', convert_to(repeat('x', ?), 'UTF8'),
+                       'application/json', now() + g * interval '1 millisecond'
+                from generate_series(1, ?) g
+                """,
+                PAYLOAD_BYTES,
+                BACKLOG_SIZE);
+    }
+
+    @Test
+    void shouldRelayBacklogLargerThanTheHeap() {
+        orderEventService.publishOrderEvents();
+
+        assertThat(publisher.published).isEqualTo(BACKLOG_SIZE);
+        assertThat(publisher.outOfOrder).isZero();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from order_events", Long.class))
+                .isZero();
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class CountingPublisherConfig {
+        @Bean
+        @Primary
+        CountingOrderEventPublisher countingOrderEventPublisher(
+                RabbitTemplate rabbitTemplate, ApplicationProperties properties, MeterRegistry meterRegistry) {
+            return new CountingOrderEventPublisher(rabbitTemplate, properties, meterRegistry);
+        }
+    }
+
+    // keeps nothing per event, so only the relay itself can hold on to the backlog
+    static class CountingOrderEventPublisher extends OrderEventPublisher {
+        long published;
+        long outOfOrder;
+        private LocalDateTime lastCreatedAt = LocalDateTime.MIN;
+
+        CountingOrderEventPublisher(
+                RabbitTemplate rabbitTemplate, ApplicationProperties properties, MeterRegistry meterRegistry) {
+            super(rabbitTemplate, properties, meterRegistry);
+        }
+
+        @Override
+        public void publish(
+                OrderEventType eventType, String eventId, byte[] payload, String contentType, LocalDateTime createdAt) {
+            published++;
+            if (createdAt.isBefore(lastCreatedAt)) {
+                outOfOrder++;
+            }
+            lastCreatedAt = createdAt;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.supersection.bookstore.orders.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.supersection.bookstore.orders.AbstractIntegrationTest;
+import com.supersection.bookstore.orders.ApplicationProperties;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+// the fetch size is far below the backlog, so the cursor is read in several round trips
+// and published rows are deleted in batches while it is still open
+@TestPropertySource(
+        properties = {
+            "orders.publish-order-events-job-cron=-",
+            "orders.new-orders-job-cron=-",
+            "orders.outbox-fetch-size=20"
+        })
+class OrderEventOutboxReaderTests extends AbstractIntegrationTest {
+    private static final int BACKLOG_SIZE = 250;
+
+    @Autowired
+    OrderEventService orderEventService;
+
+    @Autowired
+    RabbitTemplate rabbitTemplate;
+
+    @Autowired
+    AmqpAdmin amqpAdmin;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    ApplicationProperties properties;
+
+    @BeforeEach
+    void createBacklog() {
+        amqpAdmin.purgeQueue(properties.deliveredOrdersQueue(), false);
+        jdbcTemplate.update("truncate table orders cascade");
+        jdbcTemplate.update(
+                """
+                insert into orders (order_number, username, customer_name, customer_email, customer_phone,
+                                    delivery_address_line1, delivery_address_city, delivery_address_state,
+                                    delivery_address_zip_code, delivery_address_country, status,
+                                    total_amount, item_count)
+                values ('order-backlog', 'user', 'Soumo', 'soumo@gmail.com', '11111111',
+                        '123 Main St', 'Dallas', 'TX', '75001', 'USA', 'DELIVERED', 0, 0)
+                """);
+        jdbcTemplate.update(
+                """
+                insert into order_events (order_number, event_id, event_type, payload, content_type, created_at)
+                select 'order-backlog', 'event-' || g, 'ORDER_DELIVERED',
+                       convert_to('{"orderNumber":"order-backlog"}', 'UTF8'), 'application/json',
+                       now() + g * interval '1 millisecond'
+                from generate_series(1, ?) g
+                """,
+                BACKLOG_SIZE);
+    }
+
+    @Test
+    void shouldPublishWholeBacklogInOrderAndDeleteIt() {
+        orderEventService.publishOrderEvents();
+
+        List<String> messageIds = new ArrayList<>(BACKLOG_SIZE);
+        for (int i = 0; i < BACKLOG_SIZE; i++) {
+            Message message = rabbitTemplate.receive(properties.deliveredOrdersQueue(), 5_000);
+            assertThat(message).isNotNull();
+            messageIds.add(message.getMessageProperties().getMessageId());
+        }
+        assertThat(rabbitTemplate.receive(properties.deliveredOrdersQueue(), 100))
+                .isNull();
+
+        assertThat(messageIds)
+                .containsExactlyElementsOf(IntStream.rangeClosed(1, BACKLOG_SIZE)
+                        .mapToObj(i -> "event-" + i)
+                        .toList());
+        assertThat(jdbcTemplate.queryForObject("select count(*) from order_events", Long.class))
+                .isZero();
+    }
+}
@@ -0,0 +1,87 @@
+package com.supersection.bookstore.orders.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.supersection.bookstore.orders.AbstractIntegrationTest;
+import com.supersection.bookstore.orders.ApplicationProperties;
+import com.supersection.bookstore.orders.domain.models.OrderCreatedEvent;
+import com.supersection.bookstore.orders.testdata.TestDataFactory;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+@Sql("/test-orders.sql")
+@TestPropertySource(properties = {"orders.publish-order-events-job-cron=-", "orders.new-orders-job-cron=-"})
+class OrderEventPublisherTests extends AbstractIntegrationTest {
+
+    @Autowired
+    OrderService orderService;
+
+    @Autowired
+    OrderEventService orderEventService;
+
+    @Autowired
+    RabbitTemplate rabbitTemplate;
+
+    @Autowired
+    AmqpAdmin amqpAdmin;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    ApplicationProperties properties;
+
+    @BeforeEach
+    void purgeNewOrdersQueue() {
+        amqpAdmin.purgeQueue(properties.newOrdersQueue(), false);
+    }
+
+    @Test
+    void shouldRelayStoredPayloadWithMessageProperties() {
+        mockGetProductByCode("P100", "Product 1", new BigDecimal("25.50"));
+        String orderNumber = orderService
+                .createOrder("user", TestDataFactory.createValidOrderRequest())
+                .orderNumber();
+        String eventId = jdbcTemplate.queryForObject(
+                "select event_id from order_events where order_number = ?", String.class, orderNumber);
+
+        orderEventService.publishOrderEvents();
+
+        Message message = rabbitTemplate.receive(properties.newOrdersQueue(), 5_000);
+        assertThat(message).isNotNull();
+        MessageProperties messageProperties = message.getMessageProperties();
+        assertThat(messageProperties.getReceivedExchange()).isEqualTo(properties.orderEventsExchange());
+        assertThat(messageProperties.getReceivedRoutingKey()).isEqualTo(properties.newOrdersQueue());
+        assertThat(messageProperties.getContentType()).isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+        assertThat(messageProperties.getMessageId()).isEqualTo(eventId);
+        assertThat(messageProperties.getCorrelationId()).isEqualTo(eventId);
+        assertThat(messageProperties.getType()).isEqualTo("ORDER_CREATED");
+        assertThat(messageProperties.getReceivedDeliveryMode()).isEqualTo(MessageDeliveryMode.PERSISTENT);
+        assertThat(messageProperties.getTimestamp()).isNotNull();
+        // the payload is relayed as stored, so consumers infer the event type from their listener signature
+        assertThat(messageProperties.getHeaders()).doesNotContainKey("__TypeId__");
+
+        var converter = new Jackson2JsonMessageConverter(objectMapper);
+        var event = (OrderCreatedEvent)
+                converter.fromMessage(message, ParameterizedTypeReference.forType(OrderCreatedEvent.class));
+        assertThat(event.eventId()).isEqualTo(eventId);
+        assertThat(event.orderNumber()).isEqualTo(orderNumber);
+        assertThat(event.items()).hasSize(1);
+    }
+}
@@ -0,0 +1,91 @@
+package com.supersection.bookstore.orders.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.supersection.bookstore.orders.ApplicationProperties;
+import com.supersection.bookstore.orders.domain.models.Address;
+import com.supersection.bookstore.orders.domain.models.Customer;
+import com.supersection.bookstore.orders.domain.models.EventPayloadFormat;
+import com.supersection.bookstore.orders.domain.models.OrderCreatedEvent;
+import com.supersection.bookstore.orders.domain.models.OrderItem;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class OrderEventSerializerTests {
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private final OrderCreatedEvent event = new OrderCreatedEvent(
+            UUID.randomUUID().toString(),
+            UUID.randomUUID().toString(),
+            Set.of(
+                    new OrderItem("P100", "The Hunger Games", new BigDecimal("34.0"), 2),
+                    new OrderItem("P101", "To Kill a Mockingbird", new BigDecimal("45.40"), 1)),
+            new Customer("Soumo", "soumo@gmail.com", "9876543210"),
+            new Address("Haltu", "Ballygunge", "Kolkata", "West Bengal", "700001", "India"),
+            new BigDecimal("113.40"),
+            3,
+            LocalDateTime.now());
+
+    @ParameterizedTest
+    @EnumSource(EventPayloadFormat.class)
+    void shouldRoundTripEventInEveryFormat(EventPayloadFormat format) throws IOException {
+        OrderEventSerializer serializer = serializerFor(format);
+
+        byte[] payload = serializer.serialize(event);
+
+        assertThat(serializer.contentType()).isEqualTo(format.getContentType());
+        assertThat(decode(format, payload)).isEqualTo(event);
+    }
+
+    @Test
+    void shouldEncodeBinaryFormatsSmallerThanJson() {
+        int jsonBytes = encodedSize(EventPayloadFormat.JSON);
+        int smileBytes = encodedSize(EventPayloadFormat.SMILE);
+        int cborBytes = encodedSize(EventPayloadFormat.CBOR);
+
+        assertThat(smileBytes).isLessThan(jsonBytes);
+        assertThat(cborBytes).isLessThan(jsonBytes);
+    }
+
+    private int encodedSize(EventPayloadFormat format) {
+        return serializerFor(format).serialize(event).length;
+    }
+
+    // decodes the way notification-service does, with the same mapping on top of each format's factory
+    private OrderCreatedEvent decode(EventPayloadFormat format, byte[] payload) throws IOException {
+        ObjectMapper decoder =
+                switch (format) {
+                    case JSON -> objectMapper;
+                    case SMILE -> objectMapper.copyWith(new SmileFactory());
+                    case CBOR -> objectMapper.copyWith(new CBORFactory());
+                };
+        return decoder.readValue(payload, OrderCreatedEvent.class);
+    }
+
+    private OrderEventSerializer serializerFor(EventPayloadFormat format) {
+        var properties = new ApplicationProperties(
+                "http://localhost:8081",
+                "orders-exchange",
+                "new-orders",
+                "delivered-orders",
+                "cancelled-orders",
+                "error-orders",
+                format,
+                500,
+                90,
+                1000,
+                500,
+                Duration.ofHours(24));
+        return new OrderEventSerializer(objectMapper, properties);
+    }
+}
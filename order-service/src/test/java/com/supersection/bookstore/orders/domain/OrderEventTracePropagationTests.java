@@ -0,0 +1,81 @@
+package com.supersection.bookstore.orders.domain;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.supersection.bookstore.orders.AbstractIntegrationTest;
+import com.supersection.bookstore.orders.ApplicationProperties;
+import com.supersection.bookstore.orders.testdata.TestDataFactory;
+import io.restassured.http.ContentType;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+@Sql("/test-orders.sql")
+@AutoConfigureObservability(metrics = false)
+@TestPropertySource(
+        properties = {
+            "orders.publish-order-events-job-cron=-",
+            "orders.new-orders-job-cron=-",
+            "management.tracing.sampling.probability=1.0",
+            "management.otlp.tracing.export.enabled=false"
+        })
+class OrderEventTracePropagationTests extends AbstractIntegrationTest {
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String TRACE_PARENT = "00-" + TRACE_ID + "-00f067aa0ba902b7-01";
+
+    @Autowired
+    OrderEventService orderEventService;
+
+    @Autowired
+    RabbitTemplate rabbitTemplate;
+
+    @Autowired
+    AmqpAdmin amqpAdmin;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    ApplicationProperties properties;
+
+    @BeforeEach
+    void purgeNewOrdersQueue() {
+        amqpAdmin.purgeQueue(properties.newOrdersQueue(), false);
+    }
+
+    @Test
+    void shouldCarryTraceOfCreateOrderRequestAcrossOutboxToBroker() {
+        mockGetProductByCode("P100", "Product 1", new BigDecimal("25.50"));
+        String orderNumber = given().contentType(ContentType.JSON)
+                .header("traceparent", TRACE_PARENT)
+                .body(TestDataFactory.createValidOrderRequest())
+                .when()
+                .post("/api/orders")
+                .then()
+                .statusCode(HttpStatus.CREATED.value())
+                .extract()
+                .path("orderNumber");
+
+        String storedTraceParent = jdbcTemplate.queryForObject(
+                "select trace_parent from order_events where order_number = ?", String.class, orderNumber);
+        assertThat(storedTraceParent).contains(TRACE_ID);
+
+        orderEventService.publishOrderEvents();
+
+        Message message = rabbitTemplate.receive(properties.newOrdersQueue(), 5_000);
+        assertThat(message).isNotNull();
+        assertThat((String) message.getMessageProperties().getHeader("traceparent"))
+                .startsWith("00-" + TRACE_ID + "-")
+                .isNotEqualTo(storedTraceParent);
+    }
+}
@@ -0,0 +1,72 @@
+package com.supersection.bookstore.orders.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.supersection.bookstore.orders.AbstractIntegrationTest;
+import com.supersection.bookstore.orders.domain.dtos.CreateOrderRequest;
+import com.supersection.bookstore.orders.testdata.TestDataFactory;
+import java.math.BigDecimal;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+@Sql("/test-orders.sql")
+@TestPropertySource(
+        properties = {
+            "orders.publish-order-events-job-cron=-",
+            "orders.new-orders-job-cron=-",
+            "orders.purge-idempotency-keys-job-cron=-"
+        })
+class OrderIdempotencyKeyExpiryTests extends AbstractIntegrationTest {
+
+    @Autowired
+    OrderService orderService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        mockGetProductByCode("P100", "Product 1", new BigDecimal("25.50"));
+    }
+
+    @Test
+    void shouldPurgeOnlyExpiredKeys() {
+        String expiredKey = UUID.randomUUID().toString();
+        String liveKey = UUID.randomUUID().toString();
+        orderService.createOrder("user", expiredKey, TestDataFactory.createValidOrderRequest());
+        orderService.createOrder("user", liveKey, TestDataFactory.createValidOrderRequest());
+        expire(expiredKey);
+
+        int purged = orderService.purgeExpiredIdempotencyKeys();
+
+        assertThat(purged).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList("select idempotency_key from order_idempotency_keys", String.class))
+                .containsExactly(liveKey);
+    }
+
+    @Test
+    void shouldCreateNewOrderWhenKeyExpiredBeforePurge() {
+        String idempotencyKey = UUID.randomUUID().toString();
+        CreateOrderRequest request = TestDataFactory.createValidOrderRequest();
+        String first = orderService.createOrder("user", idempotencyKey, request).orderNumber();
+        expire(idempotencyKey);
+
+        String second =
+                orderService.createOrder("user", idempotencyKey, request).orderNumber();
+
+        assertThat(second).isNotEqualTo(first);
+        assertThat(orderService.createOrder("user", idempotencyKey, request).orderNumber())
+                .isEqualTo(second);
+    }
+
+    private void expire(String idempotencyKey) {
+        jdbcTemplate.update(
+                "update order_idempotency_keys set expires_at = now() - interval '1 minute' where idempotency_key = ?",
+                idempotencyKey);
+    }
+}
@@ -0,0 +1,92 @@
+package com.supersection.bookstore.orders.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.supersection.bookstore.orders.AbstractIntegrationTest;
+import com.supersection.bookstore.orders.domain.dtos.CreateOrderRequest;
+import com.supersection.bookstore.orders.domain.models.Address;
+import com.supersection.bookstore.orders.domain.models.Customer;
+import com.supersection.bookstore.orders.domain.models.OrderItem;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.aot.DisabledInAotMode;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.jdbc.Sql;
+
+@DisabledInAotMode
+@Sql("/test-orders.sql")
+@TestPropertySource(
+        properties = {
+            "orders.publish-order-events-job-cron=-",
+            "orders.new-orders-job-cron=-",
+            "spring.jpa.properties.hibernate.generate_statistics=true"
+        })
+class OrderPersistenceBatchingTests extends AbstractIntegrationTest {
+    private static final int MEASURED_ORDERS = 5;
+    private static final int ID_BLOCK_SIZE = 50;
+
+    @MockitoBean
+    OrderValidator orderValidator;
+
+    @Autowired
+    OrderService orderService;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    // Statements and latency per order go to the surefire report; only the statement count is asserted,
+    // it must match a single-item order apart from the extra pooled-lo blocks fetched for item ids.
+    @ParameterizedTest(name = "{0} items per order")
+    @ValueSource(ints = {1, 10, 100})
+    void shouldInsertOrderItemsInBatches(int itemCount, TestReporter reporter) {
+        Statistics statistics =
+                entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Measurement singleItem = measure(statistics, 1);
+        Measurement measured = measure(statistics, itemCount);
+
+        reporter.publishEntry(Map.of(
+                "itemsPerOrder", String.valueOf(itemCount),
+                "statementsPerOrder", "%.1f".formatted(measured.statementsPerOrder()),
+                "microsPerOrder", "%.1f".formatted(measured.microsPerOrder())));
+        double sequenceCallsPerOrder = (double) (MEASURED_ORDERS * itemCount / ID_BLOCK_SIZE + 1) / MEASURED_ORDERS;
+        assertThat(measured.statementsPerOrder())
+                .isLessThanOrEqualTo(singleItem.statementsPerOrder() + sequenceCallsPerOrder);
+    }
+
+    private Measurement measure(Statistics statistics, int itemCount) {
+        CreateOrderRequest request = createOrderRequest(itemCount);
+        statistics.clear();
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ORDERS; i++) {
+            orderService.createOrder("user", request);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        return new Measurement(
+                (double) statistics.getPrepareStatementCount() / MEASURED_ORDERS,
+                elapsedNanos / 1_000.0 / MEASURED_ORDERS);
+    }
+
+    private record Measurement(double statementsPerOrder, double microsPerOrder) {}
+
+    private static CreateOrderRequest createOrderRequest(int itemCount) {
+        Set<OrderItem> items = IntStream.range(0, itemCount)
+                .mapToObj(i -> new OrderItem("P" + i, "Product " + i, new BigDecimal("25.50"), 1))
+                .collect(Collectors.toSet());
+        return new CreateOrderRequest(
+                items,
+                new Customer("Soumo", "soumo@gmail.com", "9876543210"),
+                new Address("Haltu", "Ballygunge", "Kolkata", "West Bengal", "700001", "India"));
+    }
+}
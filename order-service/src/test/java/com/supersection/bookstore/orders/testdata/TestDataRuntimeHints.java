@@ -0,0 +1,26 @@
+package com.supersection.bookstore.orders.testdata;
+
+import com.supersection.bookstore.orders.domain.dtos.CreateOrderRequest;
+import com.supersection.bookstore.orders.domain.models.Address;
+import com.supersection.bookstore.orders.domain.models.Customer;
+import com.supersection.bookstore.orders.domain.models.OrderItem;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+// Instancio populates the request records reflectively, which a native test image only allows when registered
+public class TestDataRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Class<?> type :
+                new Class<?>[] {CreateOrderRequest.class, Customer.class, Address.class, OrderItem.class}) {
+            hints.reflection()
+                    .registerType(
+                            type,
+                            MemberCategory.DECLARED_FIELDS,
+                            MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                            MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+    }
+}
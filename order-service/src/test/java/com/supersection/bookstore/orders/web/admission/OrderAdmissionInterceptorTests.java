@@ -0,0 +1,87 @@
+package com.supersection.bookstore.orders.web.admission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.supersection.bookstore.orders.domain.SecurityService;
+import com.supersection.bookstore.orders.domain.exception.OrderAdmissionRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class OrderAdmissionInterceptorTests {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void shouldRejectUserOnceBurstIsSpent() throws Exception {
+        var interceptor = interceptor(true, 2, 10);
+
+        for (int i = 0; i < 2; i++) {
+            var request = postRequest();
+            assertThat(interceptor.preHandle(request, response, null)).isTrue();
+            interceptor.afterCompletion(request, response, null, null);
+        }
+
+        assertThatThrownBy(() -> interceptor.preHandle(postRequest(), response, null))
+                .isInstanceOfSatisfying(OrderAdmissionRejectedException.class, e -> assertThat(e.getRetryAfter())
+                        .isPositive());
+        assertThat(decisions("rejected", "user-rate")).isEqualTo(1);
+        assertThat(decisions("admitted", "none")).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRejectWhenAllPermitsAreHeldAndAdmitAgainAfterRelease() throws Exception {
+        var interceptor = interceptor(false, 10, 1);
+        var first = postRequest();
+        assertThat(interceptor.preHandle(first, response, null)).isTrue();
+        assertThat(meterRegistry
+                        .get("bookstore.orders.admission.in-flight")
+                        .gauge()
+                        .value())
+                .isEqualTo(1);
+
+        assertThatThrownBy(() -> interceptor.preHandle(postRequest(), response, null))
+                .isInstanceOf(OrderAdmissionRejectedException.class);
+        assertThat(decisions("rejected", "concurrency")).isEqualTo(1);
+
+        interceptor.afterCompletion(first, response, null, null);
+        assertThat(interceptor.preHandle(postRequest(), response, null)).isTrue();
+    }
+
+    @Test
+    void shouldNotLimitReads() throws Exception {
+        var interceptor = interceptor(true, 1, 1);
+        var request = new MockHttpServletRequest("GET", "/api/orders");
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(interceptor.preHandle(request, response, null)).isTrue();
+        }
+        assertThat(meterRegistry
+                        .get("bookstore.orders.admission.in-flight")
+                        .gauge()
+                        .value())
+                .isZero();
+    }
+
+    private OrderAdmissionInterceptor interceptor(boolean perUserEnabled, int userBurst, int maxConcurrent) {
+        var properties = new AdmissionControlProperties(
+                true, perUserEnabled, 0.001, userBurst, maxConcurrent, Duration.ofMillis(10), Duration.ofSeconds(1));
+        return new OrderAdmissionInterceptor(properties, new SecurityService(), meterRegistry);
+    }
+
+    private static MockHttpServletRequest postRequest() {
+        return new MockHttpServletRequest("POST", "/api/orders");
+    }
+
+    private double decisions(String decision, String reason) {
+        return meterRegistry
+                .get("bookstore.orders.admission.decisions")
+                .tag("decision", decision)
+                .tag("reason", reason)
+                .counter()
+                .count();
+    }
+}
@@ -1,17 +1,28 @@
 package com.supersection.bookstore.orders.web.controllers;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.matchingJsonPath;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static io.restassured.RestAssured.given;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.Matchers.greaterThan;
 
+import com.github.tomakehurst.wiremock.client.WireMock;
 import com.supersection.bookstore.orders.AbstractIntegrationTest;
+import com.supersection.bookstore.orders.domain.dtos.CreateOrderRequest;
+import com.supersection.bookstore.orders.domain.models.OrderItem;
+import com.supersection.bookstore.orders.domain.models.OrderStatus;
 import com.supersection.bookstore.orders.domain.models.OrderSummary;
 import com.supersection.bookstore.orders.testdata.TestDataFactory;
 import io.restassured.common.mapper.TypeRef;
 import io.restassured.http.ContentType;
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
@@ -62,6 +73,98 @@ class OrderControllerTests extends AbstractIntegrationTest {
                     .body("orderNumber", notNullValue());
         }
 
+        @Test
+        void shouldRecordStageTimersForCreatedOrder() {
+            mockGetProductByCode("P100", "Product 1", new BigDecimal("25.50"));
+            given().contentType(ContentType.JSON)
+                    .body(TestDataFactory.createValidOrderRequest())
+                    .when()
+                    .post(apiEndpoint)
+                    .then()
+                    .statusCode(HttpStatus.CREATED.value());
+
+            List<String> stageTimers = List.of(
+                    "bookstore.orders.validation", "bookstore.orders.stock-reservation", "bookstore.orders.insert");
+            for (String metric : stageTimers) {
+                given().when()
+                        .get("/actuator/metrics/{metric}", metric)
+                        .then()
+                        .statusCode(HttpStatus.OK.value())
+                        .body("measurements.find { it.statistic == 'COUNT' }.value", greaterThan(0f));
+            }
+        }
+
+        @Test
+        void shouldReplayOrderForRepeatedIdempotencyKey() {
+            mockGetProductByCode("P100", "Product 1", new BigDecimal("25.50"));
+            var payload = TestDataFactory.createValidOrderRequest();
+            String idempotencyKey = UUID.randomUUID().toString();
+
+            String orderNumber = given().contentType(ContentType.JSON)
+                    .header("Idempotency-Key", idempotencyKey)
+                    .body(payload)
+                    .when()
+                    .post(apiEndpoint)
+                    .then()
+                    .statusCode(HttpStatus.CREATED.value())
+                    .extract()
+                    .path("orderNumber");
+
+            given().contentType(ContentType.JSON)
+                    .header("Idempotency-Key", idempotencyKey)
+                    .body(payload)
+                    .when()
+                    .post(apiEndpoint)
+                    .then()
+                    .statusCode(HttpStatus.CREATED.value())
+                    .body("orderNumber", is(orderNumber));
+        }
+
+        @Test
+        void shouldReturnConflictWhenIdempotencyKeyIsReusedWithDifferentPayload() {
+            mockGetProductByCode("P100", "Product 1", new BigDecimal("25.50"));
+            String idempotencyKey = UUID.randomUUID().toString();
+
+            given().contentType(ContentType.JSON)
+                    .header("Idempotency-Key", idempotencyKey)
+                    .body(TestDataFactory.createValidOrderRequest())
+                    .when()
+                    .post(apiEndpoint)
+                    .then()
+                    .statusCode(HttpStatus.CREATED.value());
+
+            given().contentType(ContentType.JSON)
+                    .header("Idempotency-Key", idempotencyKey)
+                    .body(TestDataFactory.createValidOrderRequest())
+                    .when()
+                    .post(apiEndpoint)
+                    .then()
+                    .statusCode(HttpStatus.CONFLICT.value())
+                    .body("title", is("Idempotency Key Conflict"));
+        }
+
+        @Test
+        void shouldReturnBadRequestWhenStockIsUnavailable() {
+            mockGetProductByCode("P101", "Product 2", new BigDecimal("30.00"));
+            stubFor(WireMock.post(urlEqualTo("/api/products/reservations"))
+                    .withRequestBody(matchingJsonPath("$.items[?(@.code == 'P101')]"))
+                    .atPriority(1)
+                    .willReturn(okJson("{\"reserved\": false, \"unavailable\": [\"P101\"]}")));
+            var valid = TestDataFactory.createValidOrderRequest();
+            var payload = new CreateOrderRequest(
+                    Set.of(new OrderItem("P101", "Product 2", new BigDecimal("30.00"), 1)),
+                    valid.customer(),
+                    valid.deliveryAddress());
+
+            given().contentType(ContentType.JSON)
+                    .body(payload)
+                    .when()
+                    .post(apiEndpoint)
+                    .then()
+                    .statusCode(HttpStatus.BAD_REQUEST.value())
+                    .body("detail", is("Insufficient stock for products: P101"));
+        }
+
         @Test
         void shouldReturnBadRequestWhenMandatoryDataIsMissing() {
             var payload = TestDataFactory.createOrderRequestWithInvalidCustomer();
@@ -88,6 +191,37 @@ class OrderControllerTests extends AbstractIntegrationTest {
 
             assertThat(orderSummaries).hasSize(2);
         }
+
+        @Test
+        void shouldIncludeNewlyCreatedOrderInOrderSummaries() {
+            mockGetProductByCode("P100", "Product 1", new BigDecimal("25.50"));
+            String orderNumber = given().contentType(ContentType.JSON)
+                    .body(TestDataFactory.createValidOrderRequest())
+                    .when()
+                    .post("/api/orders")
+                    .then()
+                    .statusCode(HttpStatus.CREATED.value())
+                    .extract()
+                    .path("orderNumber");
+
+            List<OrderSummary> orderSummaries = given().when()
+                    .get("/api/orders")
+                    .then()
+                    .statusCode(200)
+                    .extract()
+                    .body()
+                    .as(new TypeRef<>() {});
+
+            assertThat(orderSummaries).hasSize(3);
+            assertThat(orderSummaries)
+                    .filteredOn(summary -> summary.orderNumber().equals(orderNumber))
+                    .singleElement()
+                    .satisfies(summary -> {
+                        assertThat(summary.status()).isEqualTo(OrderStatus.NEW);
+                        assertThat(summary.totalAmount()).isEqualByComparingTo("25.50");
+                        assertThat(summary.itemCount()).isEqualTo(1);
+                    });
+        }
     }
 
     @Nested
@@ -104,4 +238,24 @@ class OrderControllerTests extends AbstractIntegrationTest {
                     .body("items.size()", is(2));
         }
     }
+
+    @Nested
+    class ExportOrdersTests {
+
+        @Test
+        void shouldExportUserOrdersAsNdjson() {
+            String body = given().when()
+                    .get("/api/orders/export")
+                    .then()
+                    .statusCode(200)
+                    .contentType("application/x-ndjson")
+                    .extract()
+                    .asString();
+
+            List<String> lines = body.lines().toList();
+            assertThat(lines).hasSize(2);
+            assertThat(lines.get(0)).contains("\"orderNumber\":\"order-123\"");
+            assertThat(lines.get(1)).contains("\"orderNumber\":\"order-456\"");
+        }
+    }
 }
@@ -0,0 +1,73 @@
+package com.supersection.bookstore.orders.web.controllers;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.supersection.bookstore.orders.AbstractIntegrationTest;
+import com.supersection.bookstore.orders.domain.OrderService;
+import com.supersection.bookstore.orders.domain.models.OrderReportEntry;
+import io.restassured.common.mapper.TypeRef;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.jdbc.Sql;
+
+@Sql("/test-orders.sql")
+@Sql(statements = "truncate table order_daily_rollups")
+class OrderReportControllerTests extends AbstractIntegrationTest {
+
+    @Autowired
+    OrderService orderService;
+
+    @Test
+    void shouldReportProcessedOrdersFromRollups() {
+        orderService.processNewOrders();
+
+        List<OrderReportEntry> byStatus = getReport("STATUS");
+        assertThat(byStatus).hasSize(1);
+        assertThat(byStatus.getFirst().bucket()).isEqualTo("DELIVERED");
+        assertThat(byStatus.getFirst().orderCount()).isEqualTo(2);
+        assertThat(byStatus.getFirst().totalAmount()).isEqualByComparingTo(new BigDecimal("157.90"));
+
+        List<OrderReportEntry> byCountry = getReport("COUNTRY");
+        assertThat(byCountry).extracting(OrderReportEntry::bucket).containsExactly("INDIA", "USA");
+    }
+
+    @Test
+    void shouldReportNewOrdersBeforeTheyAreProcessed() {
+        List<OrderReportEntry> byStatus = getReport("STATUS");
+        assertThat(byStatus).hasSize(1);
+        assertThat(byStatus.getFirst().bucket()).isEqualTo("NEW");
+        assertThat(byStatus.getFirst().orderCount()).isEqualTo(2);
+        assertThat(byStatus.getFirst().totalAmount()).isEqualByComparingTo(new BigDecimal("157.90"));
+    }
+
+    @Test
+    void shouldReturnEmptyReportOutsideTheRequestedDays() {
+        List<OrderReportEntry> report = given().queryParam("groupBy", "DAY")
+                .queryParam("from", "2020-01-01")
+                .queryParam("to", "2020-01-31")
+                .when()
+                .get("/api/reports/orders")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .body()
+                .as(new TypeRef<>() {});
+
+        assertThat(report).isEmpty();
+    }
+
+    private List<OrderReportEntry> getReport(String groupBy) {
+        return given().queryParam("groupBy", groupBy)
+                .when()
+                .get("/api/reports/orders")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .body()
+                .as(new TypeRef<>() {});
+    }
+}
@@ -1,4 +1,6 @@
 truncate table orders cascade;
+truncate table user_order_summaries;
+truncate table orders_archive, order_items_archive;
 alter sequence order_id_seq restart with 100;
 alter sequence order_item_id_seq restart with 100;
 
@@ -6,13 +8,18 @@ insert into orders (id,order_number,username,
                     customer_name,customer_email,customer_phone,
                     delivery_address_line1,delivery_address_line2,delivery_address_city,
                     delivery_address_state,delivery_address_zip_code,delivery_address_country,
-                    status,comments) values
-(1, 'order-123', 'user', 'Soumo', 'soumo@gmail.com', '11111111', '123 Main St', 'Apt 1', 'Dallas', 'TX', '75001', 'USA', 'NEW', null),
-(2, 'order-456', 'user', 'Sarkar', 'sarkar@gmail.com', '2222222', '456 Main St', 'Apt 1', 'Hyderabad', 'TS', '500072', 'India', 'NEW', null)
+                    status,comments,total_amount,item_count) values
+(1, 'order-123', 'user', 'Soumo', 'soumo@gmail.com', '11111111', '123 Main St', 'Apt 1', 'Dallas', 'TX', '75001', 'USA', 'NEW', null, 113.40, 3),
+(2, 'order-456', 'user', 'Sarkar', 'sarkar@gmail.com', '2222222', '456 Main St', 'Apt 1', 'Hyderabad', 'TS', '500072', 'India', 'NEW', null, 44.50, 1)
 ;
 
 insert into order_items(order_id, code, name, price, quantity) values
 (1, 'P100', 'The Hunger Games', 34.0, 2),
 (1, 'P101', 'To Kill a Mockingbird', 45.40, 1),
 (2, 'P102', 'The Chronicles of Narnia', 44.50, 1)
-;
\ No newline at end of file
+;
+
+insert into user_order_summaries (order_number, username, status, total_amount, item_count, created_at) values
+('order-123', 'user', 'NEW', 113.40, 3, now()),
+('order-456', 'user', 'NEW', 44.50, 1, now())
+;